@@ -0,0 +1,81 @@
+package com.pesexpo.benchmarks;
+
+import com.pesexpo.orderservice.client.dto.ProductResponse;
+import com.pesexpo.orderservice.domain.Order;
+import com.pesexpo.orderservice.domain.dto.ResponseOrder;
+import com.pesexpo.productservice.client.dto.OrderResponse;
+import com.pesexpo.productservice.client.dto.ProductOrdersResponse;
+import com.pesexpo.productservice.domain.dto.ResponseProduct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response body serialization: an order page from order-service and a product with its orders
+ * from product-service. Uses a default {@link JsonMapper}, as both services run Boot's defaults.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"50", "500"})
+    private int orders;
+
+    private ObjectMapper objectMapper;
+    private List<ResponseOrder> responseOrders;
+    private ProductOrdersResponse productOrders;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().build();
+
+        List<ProductResponse> products = Stubs.products(10);
+        List<Order> orderList = Stubs.orders(orders, products);
+        responseOrders = orderList.stream()
+                .map(order -> ResponseOrder.builder()
+                        .uuid(order.getUuid())
+                        .product(new ProductResponse(order.getProductUuid(), order.getProductName(), order.getUnitPrice()))
+                        .quantity(order.getQuantity())
+                        .totalPrice(order.getTotalPrice())
+                        .orderDate(order.getOrderDate())
+                        .status(order.getStatus())
+                        .build())
+                .toList();
+
+        ProductResponse product = products.getFirst();
+        productOrders = ProductOrdersResponse.builder()
+                .product(new ResponseProduct(product.uuid(), product.productName(), product.price()))
+                .orders(orderList.stream()
+                        .map(order -> new OrderResponse(order.getUuid(), product.uuid(), order.getQuantity(),
+                                order.getTotalPrice(), order.getOrderDate(), order.getStatus().name()))
+                        .toList())
+                .build();
+    }
+
+    @Benchmark
+    public byte[] responseOrders() {
+        return objectMapper.writeValueAsBytes(responseOrders);
+    }
+
+    @Benchmark
+    public byte[] productOrders() {
+        return objectMapper.writeValueAsBytes(productOrders);
+    }
+}
@@ -0,0 +1,84 @@
+package com.pesexpo.benchmarks;
+
+import com.pesexpo.orderservice.client.dto.ProductResponse;
+import com.pesexpo.orderservice.domain.dto.BatchItemResult;
+import com.pesexpo.orderservice.domain.dto.CreateOrder;
+import com.pesexpo.orderservice.repository.OrderRepository;
+import com.pesexpo.orderservice.repository.ProductOrderStatsRepository;
+import com.pesexpo.orderservice.service.impl.OrderServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order creation with the repositories and product lookup stubbed out: order uuid generation,
+ * the {@code BigDecimal} total price and the per-product stats roll-up of a batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderCreationBenchmark {
+
+    @Param({"100"})
+    private int batchSize;
+
+    private OrderServiceImpl orderService;
+    private CreateOrder createOrder;
+    private List<CreateOrder> createOrders;
+    private BigDecimal price;
+
+    @Setup
+    public void setUp() {
+        List<ProductResponse> products = Stubs.products(10);
+        OrderRepository orderRepository = Stubs.of(OrderRepository.class, Map.of(
+                "save", args -> args[0],
+                "saveAll", args -> args[0]));
+        ProductOrderStatsRepository statsRepository = Stubs.of(ProductOrderStatsRepository.class, Map.of());
+        orderService = new OrderServiceImpl(orderRepository, statsRepository,
+                new Stubs.StubProductClient(products), JsonMapper.builder().build(), null, Stubs.transactionTemplate());
+
+        createOrder = new CreateOrder(products.getFirst().uuid(), 3);
+        createOrders = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            createOrders.add(new CreateOrder(products.get(i % products.size()).uuid(), 1 + i % 5));
+        }
+        price = products.getFirst().price();
+    }
+
+    @Benchmark
+    public void createOrder() {
+        orderService.createOrder(createOrder);
+    }
+
+    @Benchmark
+    public List<BatchItemResult> createOrders() {
+        return orderService.createOrders(createOrders);
+    }
+
+    // The expression createOrder uses for the total price, on its own
+    @Benchmark
+    public void totalPrice(Blackhole blackhole) {
+        for (int quantity = 1; quantity <= 10; quantity++) {
+            blackhole.consume(price.multiply(BigDecimal.valueOf(quantity)));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.pesexpo.benchmarks;
+
+import com.pesexpo.orderservice.client.dto.ProductResponse;
+import com.pesexpo.orderservice.domain.Order;
+import com.pesexpo.orderservice.domain.dto.CursorPage;
+import com.pesexpo.orderservice.domain.dto.ResponseOrder;
+import com.pesexpo.orderservice.repository.OrderRepository;
+import com.pesexpo.orderservice.repository.ProductOrderStatsRepository;
+import com.pesexpo.orderservice.service.impl.OrderServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order to {@link ResponseOrder} mapping through {@code OrderServiceImpl.findAll}, from the
+ * stored product snapshot and with live products from a stub client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+    @Param({"50", "500"})
+    private int orders;
+
+    @Param({"10"})
+    private int products;
+
+    private OrderServiceImpl orderService;
+
+    @Setup
+    public void setUp() {
+        List<ProductResponse> productList = Stubs.products(products);
+        List<Order> page = Stubs.orders(orders, productList);
+
+        OrderRepository orderRepository = Stubs.of(OrderRepository.class, Map.of(
+                "findByIdGreaterThanOrderByIdAsc", args -> page));
+        ProductOrderStatsRepository statsRepository = Stubs.of(ProductOrderStatsRepository.class, Map.of());
+        orderService = new OrderServiceImpl(orderRepository, statsRepository,
+                new Stubs.StubProductClient(productList), JsonMapper.builder().build(), null, Stubs.transactionTemplate());
+    }
+
+    @Benchmark
+    public CursorPage<ResponseOrder> fromSnapshot() {
+        return orderService.findAll(null, orders, false);
+    }
+
+    @Benchmark
+    public CursorPage<ResponseOrder> enriched() {
+        return orderService.findAll(null, orders, true);
+    }
+}
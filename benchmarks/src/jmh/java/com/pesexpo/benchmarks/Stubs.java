@@ -0,0 +1,109 @@
+package com.pesexpo.benchmarks;
+
+import com.pesexpo.orderservice.client.ProductClient;
+import com.pesexpo.orderservice.client.dto.ProductBatchRequest;
+import com.pesexpo.orderservice.client.dto.ProductResponse;
+import com.pesexpo.orderservice.domain.Order;
+import com.pesexpo.orderservice.domain.OrderStatus;
+import com.pesexpo.orderservice.domain.dto.CursorPage;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory stand-ins for the repositories and the product client, so the suites measure the
+ * service code rather than the database or the network.
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Implements {@code type} with the given handlers keyed by method name. Unlisted void methods
+     * do nothing; anything else fails, so a benchmark cannot silently measure an unstubbed path.
+     */
+    static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> handlers) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            Function<Object[], Object> handler = handlers.get(method.getName());
+            if (handler != null) {
+                return handler.apply(args);
+            }
+            if (method.getReturnType() == void.class) {
+                return null;
+            }
+            throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+        });
+        return type.cast(proxy);
+    }
+
+    // Runs callbacks directly; commit and rollback do nothing
+    static TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(of(PlatformTransactionManager.class, Map.of(
+                "getTransaction", args -> new SimpleTransactionStatus())));
+    }
+
+    static List<ProductResponse> products(int count) {
+        List<ProductResponse> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(new ProductResponse("0190f3b2-6c1e-7a3b-9c4d-" + String.format("%012d", i),
+                    "Product " + i, new BigDecimal("19.99").add(BigDecimal.valueOf(i, 2))));
+        }
+        return products;
+    }
+
+    /**
+     * Orders spread round-robin over {@code products}, all carrying a product snapshot.
+     */
+    static List<Order> orders(int count, List<ProductResponse> products) {
+        LocalDateTime orderDate = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ProductResponse product = products.get(i % products.size());
+            int quantity = 1 + i % 5;
+            orders.add(new Order(i + 1, "0190f3b2-7d2f-7b4c-8d5e-" + String.format("%012d", i),
+                    product.uuid(), product.productName(), product.price(), quantity,
+                    product.price().multiply(BigDecimal.valueOf(quantity)), orderDate.plusMinutes(i), OrderStatus.PENDING));
+        }
+        return orders;
+    }
+
+    static final class StubProductClient implements ProductClient {
+
+        private final Map<String, ProductResponse> products;
+
+        StubProductClient(List<ProductResponse> products) {
+            this.products = products.stream().collect(Collectors.toMap(ProductResponse::uuid, Function.identity()));
+        }
+
+        @Override
+        public CursorPage<ProductResponse> findAllProducts(String cursor, int limit) {
+            return new CursorPage<>(List.copyOf(products.values()), null);
+        }
+
+        @Override
+        public ProductResponse findProductByUuid(String uuid) {
+            return products.get(uuid);
+        }
+
+        @Override
+        public ResponseEntity<ProductResponse> findProductByUuidIfNoneMatch(String uuid, String etag) {
+            return ResponseEntity.ok(products.get(uuid));
+        }
+
+        @Override
+        public List<ProductResponse> findProductsByUuids(ProductBatchRequest request) {
+            return request.uuids().stream().map(products::get).toList();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.pesexpo.benchmarks;
+
+import com.pesexpo.orderservice.domain.Uuids;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Key generation as orders use it ({@link Uuids#timeOrdered()} rendered to a string) against
+ * {@link UUID#randomUUID()}. The contended variants show the cost of the shared
+ * {@code SecureRandom} behind {@code randomUUID} under request concurrency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidBenchmark {
+
+    private String orderUuid = "0190f3b2-7d2f-7b4c-8d5e-000000000042";
+
+    @Benchmark
+    public String timeOrdered() {
+        return Uuids.timeOrdered().toString();
+    }
+
+    @Benchmark
+    public String random() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String timeOrderedContended() {
+        return Uuids.timeOrdered().toString();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String randomContended() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public UUID parse() {
+        return Uuids.parseOrNull(orderUuid);
+    }
+}
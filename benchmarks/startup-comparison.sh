@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+# Time to ready and resident memory of a service, JVM jar against native image (Linux).
+#
+#   ./gradlew :order-service:bootJar :order-service:nativeCompile
+#   benchmarks/startup-comparison.sh order-service [runs]
+#
+# The service's database must be running. Each variant is started <runs> times (default 5).
+# Readiness is the first UP from /actuator/health, measured from process launch. RSS is read
+# at readiness and again after 500 list requests. The table shows the median of the runs.
+set -euo pipefail
+
+service=${1:?usage: $0 order-service|product-service [runs]}
+runs=${2:-5}
+case "$service" in
+    order-service) port=9003; path=/api/v1/orders?limit=50 ;;
+    product-service) port=9002; path=/api/v1/products?limit=50 ;;
+    *) echo "Unknown service $service" >&2; exit 2 ;;
+esac
+
+root=$(cd "$(dirname "$0")/.." && pwd)
+jar=$(ls "$root/$service"/build/libs/"$service"-*.jar 2>/dev/null | grep -v -- -plain | head -n 1 || true)
+native="$root/$service/build/native/nativeCompile/$service"
+
+rss_kb() {
+    awk '/^VmRSS/ {print $2}' "/proc/$1/status"
+}
+
+median() {
+    sort -n | awk '{v[NR] = $1} END {print v[int((NR + 1) / 2)]}'
+}
+
+# measure <label> <command...>: prints "<label> <ready ms> <rss at ready MB> <rss after load MB>"
+measure() {
+    local label=$1; shift
+    local ready=() idle=() loaded=()
+    for _ in $(seq "$runs"); do
+        local log="/tmp/$service-$label.log"
+        local start=$(date +%s%N)
+        "$@" >"$log" 2>&1 &
+        local pid=$!
+        until curl -fs -o /dev/null "http://localhost:$port/actuator/health"; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$label exited before becoming ready, see $log" >&2
+                exit 1
+            fi
+            sleep 0.02
+        done
+        ready+=($(( ($(date +%s%N) - start) / 1000000 )))
+        idle+=($(( $(rss_kb "$pid") / 1024 )))
+        for _ in $(seq 500); do
+            curl -fs -o /dev/null "http://localhost:$port$path" || true
+        done
+        loaded+=($(( $(rss_kb "$pid") / 1024 )))
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+    done
+    printf '%-10s %12s %16s %18s\n' "$label" \
+        "$(printf '%s\n' "${ready[@]}" | median)" \
+        "$(printf '%s\n' "${idle[@]}" | median)" \
+        "$(printf '%s\n' "${loaded[@]}" | median)"
+}
+
+printf '%-10s %12s %16s %18s\n' variant "ready (ms)" "RSS ready (MB)" "RSS loaded (MB)"
+if [[ -n "$jar" ]]; then
+    measure jvm java -jar "$jar"
+else
+    echo "No jar in $service/build/libs; run ./gradlew :$service:bootJar" >&2
+fi
+if [[ -x "$native" ]]; then
+    measure native "$native"
+else
+    echo "No native image at $native; run ./gradlew :$service:nativeCompile" >&2
+fi
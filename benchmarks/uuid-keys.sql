@@ -0,0 +1,46 @@
+-- Insert throughput and index size of the uuid key layouts, before and after the switch to
+-- native time-ordered uuids.
+--
+--   psql -h localhost -U postgres -d order_db -v rows=1000000 -f benchmarks/uuid-keys.sql
+--
+-- Each variant inserts the same number of rows into an unlogged table that has only the unique
+-- index on the key, so the timings isolate index maintenance. Raise shared_buffers or the row
+-- count past it to see the cache-miss effect of random insertion points.
+
+\if :{?rows}
+\else
+\set rows 1000000
+\endif
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+
+CREATE OR REPLACE FUNCTION pg_temp.uuid_v7() RETURNS uuid AS $$
+    SELECT encode(set_bit(set_bit(
+            overlay(uuid_send(gen_random_uuid())
+                    PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                    FROM 1 FOR 6),
+            52, 1), 53, 1), 'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+DROP TABLE IF EXISTS bench_text_v4, bench_uuid_v4, bench_uuid_v7;
+CREATE UNLOGGED TABLE bench_text_v4 (id bigint, uuid varchar(255) NOT NULL UNIQUE);
+CREATE UNLOGGED TABLE bench_uuid_v4 (id bigint, uuid uuid NOT NULL UNIQUE);
+CREATE UNLOGGED TABLE bench_uuid_v7 (id bigint, uuid uuid NOT NULL UNIQUE);
+
+\echo 'before: varchar column, random v4'
+INSERT INTO bench_text_v4 SELECT i, gen_random_uuid()::text FROM generate_series(1, :rows) i;
+\echo 'native uuid column, random v4'
+INSERT INTO bench_uuid_v4 SELECT i, gen_random_uuid() FROM generate_series(1, :rows) i;
+\echo 'after: native uuid column, time-ordered v7'
+INSERT INTO bench_uuid_v7 SELECT i, pg_temp.uuid_v7() FROM generate_series(1, :rows) i;
+
+\timing off
+SELECT c.relname                                   AS index,
+       pg_size_pretty(pg_relation_size(c.oid))     AS size,
+       (pgstatindex(c.oid::regclass)).avg_leaf_density AS leaf_density
+FROM pg_class c
+WHERE c.relname IN ('bench_text_v4_uuid_key', 'bench_uuid_v4_uuid_key', 'bench_uuid_v7_uuid_key')
+ORDER BY c.relname;
+
+DROP TABLE bench_text_v4, bench_uuid_v4, bench_uuid_v7;
@@ -0,0 +1,28 @@
+package com.pesexpo.loadtest;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Gaps between request arrivals. Arrivals follow the schedule whether or not earlier requests
+ * have completed (an open model), so a slow service builds up a queue instead of slowing the
+ * load down and hiding its own latency.
+ */
+public enum ArrivalSchedule {
+
+    CONSTANT {
+        @Override
+        long nextGapNanos(double ratePerSecond, RandomGenerator random) {
+            return Math.round(1e9 / ratePerSecond);
+        }
+    },
+
+    // Exponential gaps: independent clients arriving at the given mean rate
+    POISSON {
+        @Override
+        long nextGapNanos(double ratePerSecond, RandomGenerator random) {
+            return Math.round(-Math.log(1.0 - random.nextDouble()) * 1e9 / ratePerSecond);
+        }
+    };
+
+    abstract long nextGapNanos(double ratePerSecond, RandomGenerator random);
+}
@@ -0,0 +1,104 @@
+package com.pesexpo.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Requests the harness can send, named in the mix by {@link #label()}.
+ */
+public enum Endpoint {
+
+    ORDER_CREATE("order.create", Service.ORDER) {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, String productUuid, RandomGenerator random) {
+            String body = "{\"productUuid\":\"%s\",\"quantity\":%d}".formatted(productUuid, 1 + random.nextInt(5));
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/v1/orders"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+    },
+    ORDER_PAGE("order.page", Service.ORDER) {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, String productUuid, RandomGenerator random) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/v1/orders?limit=50"));
+        }
+    },
+    // Live product data for every order on the page: the order-service to product-service call path
+    ORDER_PAGE_ENRICHED("order.page.enriched", Service.ORDER) {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, String productUuid, RandomGenerator random) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/v1/orders?limit=50&enrich=true"));
+        }
+    },
+    ORDER_BY_PRODUCT("order.by-product", Service.ORDER) {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, String productUuid, RandomGenerator random) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/v1/orders/product/" + productUuid));
+        }
+    },
+    ORDER_STATS("order.stats", Service.ORDER) {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, String productUuid, RandomGenerator random) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/v1/orders/product/" + productUuid + "/stats"));
+        }
+    },
+    PRODUCT_GET("product.get", Service.PRODUCT) {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, String productUuid, RandomGenerator random) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/v1/products/" + productUuid));
+        }
+    },
+    PRODUCT_PAGE("product.page", Service.PRODUCT) {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, String productUuid, RandomGenerator random) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/v1/products?limit=50"));
+        }
+    },
+    // Calls order-service from product-service
+    PRODUCT_ORDERS("product.orders", Service.PRODUCT) {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, String productUuid, RandomGenerator random) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/v1/products/" + productUuid + "/orders"));
+        }
+    },
+    PRODUCT_ORDERS_SUMMARY("product.orders.summary", Service.PRODUCT) {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, String productUuid, RandomGenerator random) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/v1/products/" + productUuid + "/orders?summary=true"));
+        }
+    };
+
+    enum Service { ORDER, PRODUCT }
+
+    private final String label;
+    private final Service service;
+
+    Endpoint(String label, Service service) {
+        this.label = label;
+        this.service = service;
+    }
+
+    abstract HttpRequest.Builder request(URI baseUrl, String productUuid, RandomGenerator random);
+
+    public String label() {
+        return label;
+    }
+
+    public Service service() {
+        return service;
+    }
+
+    static Endpoint fromLabel(String label) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.label.equals(label))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint " + label));
+    }
+
+    static List<String> names() {
+        return Arrays.stream(values()).map(Endpoint::label).toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.pesexpo.loadtest;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * Response delay the product-service stub adds before answering.
+ */
+public sealed interface LatencyDistribution {
+
+    long sampleNanos(RandomGenerator random);
+
+    record Fixed(Duration delay) implements LatencyDistribution {
+        @Override
+        public long sampleNanos(RandomGenerator random) {
+            return delay.toNanos();
+        }
+    }
+
+    record Uniform(Duration min, Duration max) implements LatencyDistribution {
+        @Override
+        public long sampleNanos(RandomGenerator random) {
+            return min.equals(max) ? min.toNanos() : random.nextLong(min.toNanos(), max.toNanos() + 1);
+        }
+    }
+
+    record Exponential(Duration mean) implements LatencyDistribution {
+        @Override
+        public long sampleNanos(RandomGenerator random) {
+            return Math.round(-Math.log(1.0 - random.nextDouble()) * mean.toNanos());
+        }
+    }
+
+    // Long right tail: most responses near the median, a few many times slower
+    record LogNormal(Duration median, double sigma) implements LatencyDistribution {
+        @Override
+        public long sampleNanos(RandomGenerator random) {
+            return Math.round(median.toNanos() * Math.exp(sigma * random.nextGaussian()));
+        }
+    }
+
+    /**
+     * Parses {@code fixed:5ms}, {@code uniform:2ms-20ms}, {@code exponential:10ms} or
+     * {@code lognormal:10ms:0.5} (median and sigma).
+     */
+    static LatencyDistribution parse(String value) {
+        String[] parts = value.trim().split(":");
+        try {
+            return switch (parts[0]) {
+                case "fixed" -> new Fixed(LoadTestConfig.parseDuration(parts[1]));
+                case "uniform" -> {
+                    String[] bounds = parts[1].split("-");
+                    Duration min = LoadTestConfig.parseDuration(bounds[0]);
+                    Duration max = LoadTestConfig.parseDuration(bounds[1]);
+                    if (max.compareTo(min) < 0) {
+                        throw new IllegalArgumentException("Upper bound below lower bound in " + value);
+                    }
+                    yield new Uniform(min, max);
+                }
+                case "exponential" -> new Exponential(LoadTestConfig.parseDuration(parts[1]));
+                case "lognormal" -> new LogNormal(LoadTestConfig.parseDuration(parts[1]), Double.parseDouble(parts[2]));
+                default -> throw new IllegalArgumentException("Unknown latency distribution " + value);
+            };
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Incomplete latency distribution " + value);
+        }
+    }
+}
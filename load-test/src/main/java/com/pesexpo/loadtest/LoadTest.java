@@ -0,0 +1,215 @@
+package com.pesexpo.loadtest;
+
+import org.HdrHistogram.Histogram;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator for the order-service and product-service endpoints.
+ * <p>
+ * Requests arrive at the configured rate and mix regardless of how fast responses come back,
+ * each one on its own virtual thread. After the warm-up, every response is recorded per endpoint
+ * in an HDR histogram. The run ends with a throughput and p50/p99/p99.9 report and one
+ * {@code .hgrm} percentile file per endpoint.
+ */
+public class LoadTest {
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    LoadTest(LoadTestConfig config) {
+        this.config = config;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(config.timeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        config.mix().keySet().forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config;
+        try {
+            config = LoadTestConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestConfig.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        ProductServiceStub stub = config.stubPort() == 0 ? null
+                : new ProductServiceStub(config.stubPort(), config.stubProducts(), config.stubLatency(), config.stubErrorRate());
+        try {
+            if (stub != null) {
+                System.out.printf("product-service stub on port %d (%d products, latency %s, error rate %.3f)%n",
+                        stub.port(), config.stubProducts(), config.stubLatency(), config.stubErrorRate());
+            }
+            LoadTest loadTest = new LoadTest(config);
+            List<String> productUuids = config.productServiceUrl() == null
+                    ? stub.productUuids()
+                    : loadTest.fetchProductUuids();
+            long elapsedNanos = loadTest.run(productUuids);
+            loadTest.report(System.out, elapsedNanos);
+            loadTest.writeHistograms();
+            if (stub != null) {
+                System.out.printf("stub served %d requests, %d injected failures%n", stub.served(), stub.failed());
+            }
+        } finally {
+            if (stub != null) {
+                stub.close();
+            }
+        }
+    }
+
+    // Existing products to order and look up, from the first page of product-service
+    private List<String> fetchProductUuids() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(config.productServiceUrl().resolve("/api/v1/products?limit=500"))
+                .timeout(config.timeout())
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        List<String> uuids = new ArrayList<>();
+        for (JsonNode item : JsonMapper.builder().build().readTree(response.body()).path("items")) {
+            uuids.add(item.path("uuid").asString());
+        }
+        if (uuids.isEmpty()) {
+            throw new IllegalStateException("product-service returned no products (status " + response.statusCode() + ")");
+        }
+        return uuids;
+    }
+
+    /**
+     * Sends requests until the warm-up and measured duration have passed, then waits for the
+     * outstanding ones. Returns the measured time in nanoseconds.
+     */
+    long run(List<String> productUuids) throws InterruptedException {
+        Endpoint[] weighted = weightedEndpoints(config.mix());
+        SplittableRandom random = new SplittableRandom();
+
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        System.out.printf("%s arrivals at %.1f req/s: %s warm-up, %s measured%n",
+                config.arrivals().name().toLowerCase(), config.rate(), config.warmup(), config.duration());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long scheduled = start; scheduled < end; scheduled += config.arrivals().nextGapNanos(config.rate(), random)) {
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Endpoint endpoint = weighted[random.nextInt(weighted.length)];
+                String productUuid = productUuids.get(random.nextInt(productUuids.size()));
+                boolean measured = scheduled >= measureFrom;
+                if (inFlight.incrementAndGet() > config.maxInFlight()) {
+                    inFlight.decrementAndGet();
+                    if (measured) {
+                        stats.get(endpoint).drop();
+                    }
+                    continue;
+                }
+                long scheduledAt = scheduled;
+                executor.execute(() -> {
+                    try {
+                        send(endpoint, productUuid, scheduledAt, measured);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+        }
+        return end - measureFrom;
+    }
+
+    private void send(Endpoint endpoint, String productUuid, long scheduledAt, boolean measured) {
+        URI baseUrl = endpoint.service() == Endpoint.Service.ORDER ? config.orderServiceUrl() : config.productServiceUrl();
+        HttpRequest request = endpoint.request(baseUrl, productUuid, ThreadLocalRandom.current())
+                .timeout(config.timeout())
+                .build();
+        boolean success;
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() < 400;
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (measured) {
+            stats.get(endpoint).record(System.nanoTime() - scheduledAt, success);
+        }
+    }
+
+    private static Endpoint[] weightedEndpoints(Map<Endpoint, Integer> mix) {
+        List<Endpoint> weighted = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(endpoint);
+            }
+        });
+        return weighted.toArray(Endpoint[]::new);
+    }
+
+    void report(PrintStream out, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        out.printf("%n%-24s %9s %9s %8s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "req/s", "errors", "dropped", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram total = new Histogram(3);
+        long errors = 0;
+        long dropped = 0;
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpointStats = entry.getValue();
+            Histogram latency = endpointStats.latency().copy();
+            total.add(latency);
+            errors += endpointStats.errors();
+            dropped += endpointStats.dropped();
+            printRow(out, entry.getKey().label(), latency, seconds, endpointStats.errors(), endpointStats.dropped());
+        }
+        printRow(out, "total", total, seconds, errors, dropped);
+    }
+
+    private static void printRow(PrintStream out, String label, Histogram latency, double seconds, long errors, long dropped) {
+        out.printf("%-24s %9d %9.1f %8d %8d %10.2f %10.2f %10.2f %10.2f%n",
+                label, latency.getTotalCount(), latency.getTotalCount() / seconds, errors, dropped,
+                millis(latency, 50), millis(latency, 99), millis(latency, 99.9), latency.getMaxValue() / 1000.0);
+    }
+
+    private static double millis(Histogram latency, double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private void writeHistograms() throws IOException {
+        Files.createDirectories(config.outputDir());
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            Path file = config.outputDir().resolve(entry.getKey().label() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                // Values in milliseconds, the unit HdrHistogram's plotter expects
+                entry.getValue().latency().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        System.out.println("Percentile distributions written to " + config.outputDir().toAbsolutePath());
+    }
+}
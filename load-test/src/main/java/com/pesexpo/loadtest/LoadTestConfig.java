@@ -0,0 +1,148 @@
+package com.pesexpo.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options, given as {@code --name=value}. Durations take an {@code us}, {@code ms},
+ * {@code s} or {@code m} suffix.
+ */
+public record LoadTestConfig(
+        URI orderServiceUrl,
+        URI productServiceUrl,
+        double rate,
+        ArrivalSchedule arrivals,
+        Duration duration,
+        Duration warmup,
+        Map<Endpoint, Integer> mix,
+        int maxInFlight,
+        Duration timeout,
+        int stubPort,
+        int stubProducts,
+        LatencyDistribution stubLatency,
+        double stubErrorRate,
+        Path outputDir
+) {
+
+    private static final List<String> OPTIONS = List.of("order-url", "product-url", "rate", "arrivals", "duration",
+            "warmup", "mix", "max-in-flight", "timeout", "stub-port", "stub-products", "stub-latency", "stub-error-rate",
+            "output");
+
+    static final String DEFAULT_MIX = "order.create=20,order.page=20,order.page.enriched=10,order.by-product=30,order.stats=20";
+
+    static final String USAGE = """
+            Options (--name=value):
+              order-url         order-service base URL (default http://localhost:9003)
+              product-url       product-service base URL; when set, product endpoints can be driven
+                                and product uuids are read from it instead of the stub catalogue
+              rate              requests per second across all endpoints (default 100)
+              arrivals          poisson | constant (default poisson)
+              duration          measured run length (default 60s)
+              warmup            run length before measuring starts (default 10s)
+              mix               endpoint=weight,... (default %s)
+              max-in-flight     requests outstanding before new arrivals are dropped (default 2000)
+              timeout           per-request timeout (default 10s)
+              stub-port         port of the in-process product-service stub, 0 to disable (default 9102)
+              stub-products     products in the stub catalogue (default 1000)
+              stub-latency      fixed:5ms | uniform:2ms-20ms | exponential:10ms | lognormal:10ms:0.5
+                                (default fixed:0ms)
+              stub-error-rate   share of stub responses that are 503 (default 0)
+              output            directory for the .hgrm percentile files (default load-test)
+            Endpoints: %s
+            """.formatted(DEFAULT_MIX, String.join(", ", Endpoint.names()));
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        List<String> unknown = options.keySet().stream().filter(name -> !OPTIONS.contains(name)).toList();
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + unknown);
+        }
+
+        String productUrl = options.get("product-url");
+        LoadTestConfig config = new LoadTestConfig(
+                URI.create(options.getOrDefault("order-url", "http://localhost:9003")),
+                productUrl == null ? null : URI.create(productUrl),
+                Double.parseDouble(options.getOrDefault("rate", "100")),
+                ArrivalSchedule.valueOf(options.getOrDefault("arrivals", "poisson").toUpperCase()),
+                parseDuration(options.getOrDefault("duration", "60s")),
+                parseDuration(options.getOrDefault("warmup", "10s")),
+                parseMix(options.getOrDefault("mix", DEFAULT_MIX)),
+                Integer.parseInt(options.getOrDefault("max-in-flight", "2000")),
+                parseDuration(options.getOrDefault("timeout", "10s")),
+                Integer.parseInt(options.getOrDefault("stub-port", "9102")),
+                Integer.parseInt(options.getOrDefault("stub-products", "1000")),
+                LatencyDistribution.parse(options.getOrDefault("stub-latency", "fixed:0ms")),
+                Double.parseDouble(options.getOrDefault("stub-error-rate", "0")),
+                Path.of(options.getOrDefault("output", "load-test")));
+        config.validate();
+        return config;
+    }
+
+    private void validate() {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        if (stubErrorRate < 0 || stubErrorRate > 1) {
+            throw new IllegalArgumentException("stub-error-rate must be between 0 and 1");
+        }
+        if (productServiceUrl == null && stubPort == 0) {
+            throw new IllegalArgumentException("Without product-url the stub supplies the product uuids; stub-port cannot be 0");
+        }
+        for (Endpoint endpoint : mix.keySet()) {
+            if (endpoint.service() == Endpoint.Service.PRODUCT && productServiceUrl == null) {
+                throw new IllegalArgumentException(endpoint.label() + " needs --product-url");
+            }
+        }
+    }
+
+    static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected endpoint=weight but got " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + parts[0]);
+            }
+            if (weight > 0) {
+                mix.put(Endpoint.fromLabel(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The mix has no endpoint with a positive weight");
+        }
+        return mix;
+    }
+
+    static Duration parseDuration(String value) {
+        String trimmed = value.trim();
+        int unitStart = 0;
+        while (unitStart < trimmed.length() && (Character.isDigit(trimmed.charAt(unitStart)) || trimmed.charAt(unitStart) == '.')) {
+            unitStart++;
+        }
+        double amount = Double.parseDouble(trimmed.substring(0, unitStart));
+        long nanosPerUnit = switch (trimmed.substring(unitStart)) {
+            case "us" -> 1_000L;
+            case "ms" -> 1_000_000L;
+            case "s" -> 1_000_000_000L;
+            case "m" -> 60_000_000_000L;
+            default -> throw new IllegalArgumentException("Expected a us, ms, s or m suffix but got " + value);
+        };
+        return Duration.ofNanos(Math.round(amount * nanosPerUnit));
+    }
+}
@@ -0,0 +1,165 @@
+package com.pesexpo.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process stand-in for the product-service endpoints order-service calls. Point order-service
+ * at it with {@code PRODUCT_SERVICE_URL=http://localhost:<stub-port>}.
+ * <p>
+ * Every response is delayed by a sample of the configured latency distribution, and the
+ * configured share of them fails with 503, so client timeouts, the circuit breaker and the
+ * product cache can be exercised without a real product-service.
+ */
+public class ProductServiceStub implements AutoCloseable {
+
+    private static final String PRODUCTS = "/api/v1/products";
+    // Every stub product stays at version 1
+    private static final String ETAG = "\"1\"";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final Map<String, Map<String, Object>> products = new LinkedHashMap<>();
+    private final List<String> productUuids;
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder served = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public ProductServiceStub(int port, int productCount, LatencyDistribution latency, double errorRate) throws IOException {
+        for (int i = 0; i < productCount; i++) {
+            String uuid = UUID.randomUUID().toString();
+            Map<String, Object> product = new LinkedHashMap<>();
+            product.put("uuid", uuid);
+            product.put("productName", "Load test product " + i);
+            product.put("price", BigDecimal.valueOf(100 + i % 9_900L, 2));
+            products.put(uuid, product);
+        }
+        this.productUuids = List.copyOf(products.keySet());
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.setExecutor(executor);
+        server.createContext(PRODUCTS, this::handle);
+        server.start();
+    }
+
+    public List<String> productUuids() {
+        return productUuids;
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public long served() {
+        return served.sum();
+    }
+
+    public long failed() {
+        return failed.sum();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long delay = latency.sampleNanos(random);
+            if (delay > 0) {
+                Thread.sleep(delay / 1_000_000, (int) (delay % 1_000_000));
+            }
+            served.increment();
+            if (random.nextDouble() < errorRate) {
+                failed.increment();
+                send(exchange, 503, Map.of("error", "Injected failure"));
+                return;
+            }
+            route(exchange);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        if (method.equals("POST") && path.equals(PRODUCTS + "/batch")) {
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            List<Map<String, Object>> found = new ArrayList<>();
+            request.path("uuids").forEach(uuid -> {
+                Map<String, Object> product = products.get(uuid.asString());
+                if (product != null) {
+                    found.add(product);
+                }
+            });
+            send(exchange, 200, found);
+        } else if (method.equals("GET") && path.equals(PRODUCTS)) {
+            sendPage(exchange);
+        } else if (method.equals("GET") && path.startsWith(PRODUCTS + "/")) {
+            Map<String, Object> product = products.get(path.substring(PRODUCTS.length() + 1));
+            if (product == null) {
+                send(exchange, 404, Map.of("error", "Product not found"));
+            } else if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.getResponseHeaders().set("ETag", ETAG);
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                exchange.getResponseHeaders().set("ETag", ETAG);
+                send(exchange, 200, product);
+            }
+        } else {
+            send(exchange, 404, Map.of("error", "Not stubbed: " + method + " " + path));
+        }
+    }
+
+    // Cursors are plain offsets into the catalogue
+    private void sendPage(HttpExchange exchange) throws IOException {
+        Map<String, String> query = new LinkedHashMap<>();
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                String[] parts = pair.split("=", 2);
+                query.put(parts[0], parts.length > 1 ? parts[1] : "");
+            }
+        }
+        int from = query.getOrDefault("cursor", "").isEmpty() ? 0 : Integer.parseInt(query.get("cursor"));
+        int limit = Math.clamp(Integer.parseInt(query.getOrDefault("limit", "50")), 1, 500);
+        int to = Math.min(from + limit, productUuids.size());
+
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("items", productUuids.subList(Math.min(from, to), to).stream().map(products::get).toList());
+        page.put("nextCursor", to < productUuids.size() ? String.valueOf(to) : null);
+        send(exchange, 200, page);
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+}
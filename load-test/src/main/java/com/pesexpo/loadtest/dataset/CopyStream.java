@@ -0,0 +1,63 @@
+package com.pesexpo.loadtest.dataset;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Rows streamed into one {@code COPY ... FROM STDIN} in PostgreSQL text format (tab separated).
+ * Rows are buffered and sent in large chunks, so the generated data is never held in memory.
+ * Values must not contain tabs, newlines or backslashes.
+ */
+class CopyStream implements AutoCloseable {
+
+    static final char TAB = '\t';
+
+    private static final int FLUSH_THRESHOLD = 1 << 20;
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 4096);
+    private long rows;
+
+    CopyStream(Connection connection, String copySql) throws SQLException {
+        this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql);
+    }
+
+    /**
+     * Starts a row; append the columns to the returned builder separated by {@link #TAB}.
+     */
+    StringBuilder row() throws SQLException {
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+        if (rows++ > 0) {
+            buffer.append('\n');
+        }
+        return buffer;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    private void flush() throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * Sends the remaining rows and completes the COPY.
+     */
+    @Override
+    public void close() throws SQLException {
+        if (rows > 0) {
+            buffer.append('\n');
+        }
+        flush();
+        copyIn.endCopy();
+    }
+}
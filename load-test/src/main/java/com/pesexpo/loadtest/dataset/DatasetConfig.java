@@ -0,0 +1,85 @@
+package com.pesexpo.loadtest.dataset;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options of {@link DatasetGenerator}, given as {@code --name=value}.
+ */
+public record DatasetConfig(
+        Database productDb,
+        Database orderDb,
+        Target target,
+        int products,
+        long orders,
+        double zipfExponent,
+        int days,
+        LocalDate endDate,
+        boolean truncate,
+        long seed
+) {
+
+    public record Database(String url, String username, String password) {
+    }
+
+    public enum Target { ALL, PRODUCTS, ORDERS }
+
+    private static final List<String> OPTIONS = List.of("product-db-url", "product-db-user", "product-db-password",
+            "order-db-url", "order-db-user", "order-db-password", "target", "products", "orders", "zipf-exponent",
+            "days", "end-date", "truncate", "seed");
+
+    static final String USAGE = """
+            Options (--name=value):
+              product-db-url, product-db-user, product-db-password
+                                product_db connection (default jdbc:postgresql://localhost:5991/product_db, product)
+              order-db-url, order-db-user, order-db-password
+                                order_db connection (default jdbc:postgresql://localhost:5992/order_db, order)
+              target            all | products | orders; orders are drawn from the products already in product_db
+                                (default all)
+              products          products to generate (default 100000)
+              orders            orders to generate (default 1000000)
+              zipf-exponent     skew of product popularity, 0 for uniform (default 1.0)
+              days              days of order history, ending the day before end-date (default 365)
+              end-date          ISO date the history ends at (default today)
+              truncate          replace the existing rows instead of appending (default false)
+              seed              random seed; the same options and seed generate the same data (default 42)
+            """;
+
+    public static DatasetConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        List<String> unknown = options.keySet().stream().filter(name -> !OPTIONS.contains(name)).toList();
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + unknown);
+        }
+
+        DatasetConfig config = new DatasetConfig(
+                new Database(options.getOrDefault("product-db-url", "jdbc:postgresql://localhost:5991/product_db"),
+                        options.getOrDefault("product-db-user", "product"),
+                        options.getOrDefault("product-db-password", "product")),
+                new Database(options.getOrDefault("order-db-url", "jdbc:postgresql://localhost:5992/order_db"),
+                        options.getOrDefault("order-db-user", "order"),
+                        options.getOrDefault("order-db-password", "order")),
+                Target.valueOf(options.getOrDefault("target", "all").toUpperCase()),
+                Integer.parseInt(options.getOrDefault("products", "100000")),
+                Long.parseLong(options.getOrDefault("orders", "1000000")),
+                Double.parseDouble(options.getOrDefault("zipf-exponent", "1.0")),
+                Integer.parseInt(options.getOrDefault("days", "365")),
+                LocalDate.parse(options.getOrDefault("end-date", LocalDate.now().toString())),
+                Boolean.parseBoolean(options.getOrDefault("truncate", "false")),
+                Long.parseLong(options.getOrDefault("seed", "42")));
+
+        if (config.products <= 0 || config.orders < 0 || config.days <= 0 || config.zipfExponent < 0) {
+            throw new IllegalArgumentException("products and days must be positive, orders and zipf-exponent not negative");
+        }
+        return config;
+    }
+}
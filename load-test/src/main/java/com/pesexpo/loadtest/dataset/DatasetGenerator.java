@@ -0,0 +1,384 @@
+package com.pesexpo.loadtest.dataset;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static com.pesexpo.loadtest.dataset.CopyStream.TAB;
+
+/**
+ * Bulk-loads a synthetic catalogue into product_db and an order history into order_db through
+ * {@code COPY FROM STDIN}. The services must have started once against both databases, so their
+ * Flyway migrations have created the schema.
+ * <p>
+ * Product popularity is Zipfian, so a few products take most of the orders. Order volume grows
+ * over the history and peaks on weekends and in the evening. Statuses follow the order's age:
+ * recent orders are pending or in transit, and older ones are delivered or cancelled. Prices use
+ * the shop's {@code x.99} ending. With {@code --truncate=true} the load runs in one transaction
+ * per database. It uses {@code COPY FREEZE} and rebuilds the secondary order indexes once at the
+ * end instead of maintaining them row by row. Per-product order stats and the id sequences are
+ * rebuilt to match the loaded rows.
+ */
+public class DatasetGenerator {
+
+    private static final long PROGRESS_EVERY = 1_000_000;
+
+    private static final String[] ADJECTIVES = {"Compact", "Classic", "Deluxe", "Portable", "Ergonomic", "Smart",
+            "Rugged", "Slim", "Premium", "Essential", "Vintage", "Modern", "Wireless", "Heavy-Duty", "Eco"};
+    private static final String[] MATERIALS = {"Steel", "Bamboo", "Ceramic", "Aluminium", "Leather", "Cotton",
+            "Glass", "Oak", "Carbon", "Wool"};
+    private static final String[] NOUNS = {"Kettle", "Backpack", "Desk Lamp", "Headphones", "Water Bottle", "Chair",
+            "Keyboard", "Jacket", "Frying Pan", "Notebook", "Speaker", "Watch", "Blender", "Tent", "Mug", "Monitor Stand"};
+
+    private static final int[] QUANTITY_WEIGHTS = {55, 22, 11, 7, 5};
+    // Relative order volume per hour of the day
+    private static final int[] HOUR_WEIGHTS = {2, 1, 1, 1, 1, 2, 3, 5, 7, 8, 8, 8, 9, 8, 8, 8, 8, 8, 9, 10, 10, 8, 6, 4};
+
+    private static final String[] STATUSES = {"PENDING", "CONFIRMED", "SHIPPED", "DELIVERED", "CANCELLED"};
+    // Status weights, in STATUSES order, by order age: today, up to 3 days, up to 7 days, older
+    private static final int[][] STATUS_WEIGHTS_BY_AGE = {
+            {70, 25, 0, 0, 5},
+            {10, 35, 50, 0, 5},
+            {0, 5, 35, 54, 6},
+            {0, 0, 1, 93, 6}
+    };
+
+    private final DatasetConfig config;
+    private final SplittableRandom random;
+
+    record Product(String uuid, String productName, BigDecimal price) {
+    }
+
+    DatasetGenerator(DatasetConfig config) {
+        this.config = config;
+        this.random = new SplittableRandom(config.seed());
+    }
+
+    public static void main(String[] args) throws SQLException {
+        DatasetConfig config;
+        try {
+            config = DatasetConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(DatasetConfig.USAGE);
+            System.exit(2);
+            return;
+        }
+        new DatasetGenerator(config).run();
+    }
+
+    void run() throws SQLException {
+        if (config.target() != DatasetConfig.Target.ORDERS) {
+            try (Connection connection = connect(config.productDb())) {
+                loadProducts(connection);
+            }
+        }
+        if (config.target() != DatasetConfig.Target.PRODUCTS) {
+            List<Product> products;
+            try (Connection connection = connect(config.productDb())) {
+                products = readProducts(connection);
+            }
+            try (Connection connection = connect(config.orderDb())) {
+                loadOrders(connection, products);
+            }
+        }
+    }
+
+    private static Connection connect(DatasetConfig.Database database) throws SQLException {
+        return DriverManager.getConnection(database.url(), database.username(), database.password());
+    }
+
+    private void loadProducts(Connection connection) throws SQLException {
+        long started = System.nanoTime();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            if (config.truncate()) {
+                statement.execute("TRUNCATE products");
+            }
+            long id = maxId(connection, "products");
+
+            // The catalogue is built up over the period before the order history starts
+            LocalDateTime catalogueStart = config.endDate().minusDays(2L * config.days()).atStartOfDay();
+            long windowMillis = Duration.ofDays(config.days()).toMillis();
+            long[] createdOffsets = new long[config.products()];
+            for (int i = 0; i < createdOffsets.length; i++) {
+                createdOffsets[i] = random.nextLong(windowMillis);
+            }
+            Arrays.sort(createdOffsets);
+
+            try (CopyStream copy = new CopyStream(connection, copySql(
+                    "products (id, uuid, product_name, price, version, updated_at)"))) {
+                long catalogueStartMillis = epochMillis(catalogueStart);
+                for (int i = 0; i < createdOffsets.length; i++) {
+                    LocalDateTime created = catalogueStart.plus(Duration.ofMillis(createdOffsets[i]));
+                    copy.row()
+                            .append(++id).append(TAB)
+                            .append(timeOrderedUuid(catalogueStartMillis + createdOffsets[i])).append(TAB)
+                            .append(productName(i)).append(TAB)
+                            .append(productPrice().toPlainString()).append(TAB)
+                            .append(0).append(TAB)
+                            .append(created);
+                }
+            }
+            statement.execute("SELECT setval('products_id_seq', (SELECT max(id) FROM products))");
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        }
+        vacuumAnalyze(connection, "products");
+        System.out.printf("products: %,d rows in %s%n", config.products(), elapsedSince(started));
+    }
+
+    private String productName(int index) {
+        return ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + MATERIALS[random.nextInt(MATERIALS.length)]
+                + " " + NOUNS[random.nextInt(NOUNS.length)] + " " + (100 + index % 900);
+    }
+
+    // Lognormal around 25 with a long tail of expensive items, all ending in .99
+    private BigDecimal productPrice() {
+        long whole = (long) Math.min(4_999, Math.floor(25 * Math.exp(0.9 * random.nextGaussian())));
+        return BigDecimal.valueOf(whole * 100 + 99, 2);
+    }
+
+    private static List<Product> readProducts(Connection connection) throws SQLException {
+        List<Product> products = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT uuid, product_name, price FROM products ORDER BY id")) {
+            while (resultSet.next()) {
+                products.add(new Product(resultSet.getString(1), resultSet.getString(2), resultSet.getBigDecimal(3)));
+            }
+        }
+        if (products.isEmpty()) {
+            throw new IllegalStateException("product_db has no products to order; generate them first");
+        }
+        return products;
+    }
+
+    private void loadOrders(Connection connection, List<Product> products) throws SQLException {
+        long started = System.nanoTime();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LOCAL maintenance_work_mem = '512MB'");
+            List<String> indexDefinitions = List.of();
+            if (config.truncate()) {
+                statement.execute("TRUNCATE orders");
+                indexDefinitions = dropSecondaryIndexes(connection, "orders");
+            }
+            long firstId = maxId(connection, "orders") + 1;
+
+            try (CopyStream copy = new CopyStream(connection, copySql(
+                    "orders (id, uuid, product_uuid, product_name, unit_price, quantity, total_price, order_date, status)"))) {
+                writeOrders(copy, products, firstId, started);
+            }
+
+            for (String definition : indexDefinitions) {
+                statement.execute(definition);
+            }
+            statement.execute("TRUNCATE product_order_stats");
+            statement.execute("""
+                    INSERT INTO product_order_stats (product_uuid, order_count, total_quantity, total_revenue, last_order_date)
+                    SELECT product_uuid, count(*), sum(quantity), sum(total_price), max(order_date)
+                    FROM orders
+                    GROUP BY product_uuid""");
+            statement.execute("SELECT setval('orders_id_seq', (SELECT max(id) FROM orders))");
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        }
+        vacuumAnalyze(connection, "orders");
+        vacuumAnalyze(connection, "product_order_stats");
+        System.out.printf("orders: %,d rows over %d products in %s%n", config.orders(), products.size(), elapsedSince(started));
+    }
+
+    private void writeOrders(CopyStream copy, List<Product> products, long firstId, long started) throws SQLException {
+        ZipfDistribution popularity = new ZipfDistribution(products.size(), config.zipfExponent());
+        // Popularity ranks map to shuffled products, so the best sellers are not simply the oldest ones
+        int[] productByRank = shuffledIndexes(products.size());
+
+        long id = firstId;
+        long[] ordersPerDay = ordersPerDay();
+        LocalDate firstDay = config.endDate().minusDays(config.days());
+        for (int day = 0; day < ordersPerDay.length; day++) {
+            LocalDateTime dayStart = firstDay.plusDays(day).atStartOfDay();
+            long dayStartMillis = epochMillis(dayStart);
+            int[] statusWeights = STATUS_WEIGHTS_BY_AGE[ageBucket(ordersPerDay.length - 1 - day)];
+
+            for (long offset : orderTimesOfDay((int) ordersPerDay[day])) {
+                Product product = products.get(productByRank[popularity.sample(random)]);
+                int quantity = 1 + weightedIndex(QUANTITY_WEIGHTS);
+                copy.row()
+                        .append(id++).append(TAB)
+                        .append(timeOrderedUuid(dayStartMillis + offset)).append(TAB)
+                        .append(product.uuid()).append(TAB)
+                        .append(product.productName()).append(TAB)
+                        .append(product.price().toPlainString()).append(TAB)
+                        .append(quantity).append(TAB)
+                        .append(product.price().multiply(BigDecimal.valueOf(quantity)).toPlainString()).append(TAB)
+                        .append(dayStart.plus(Duration.ofMillis(offset))).append(TAB)
+                        .append(STATUSES[weightedIndex(statusWeights)]);
+
+                if (copy.rows() % PROGRESS_EVERY == 0) {
+                    double seconds = (System.nanoTime() - started) / 1e9;
+                    System.out.printf("orders: %,d / %,d (%,.0f rows/s)%n", copy.rows(), config.orders(), copy.rows() / seconds);
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits the order count over the days: volume doubles from the first day to the last, and
+     * weekends get a quarter more than weekdays.
+     */
+    long[] ordersPerDay() {
+        int days = config.days();
+        LocalDate firstDay = config.endDate().minusDays(days);
+        double[] weights = new double[days];
+        double total = 0;
+        for (int day = 0; day < days; day++) {
+            DayOfWeek dayOfWeek = firstDay.plusDays(day).getDayOfWeek();
+            boolean weekend = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+            weights[day] = (1.0 + (double) day / days) * (weekend ? 1.25 : 1.0);
+            total += weights[day];
+        }
+        long[] counts = new long[days];
+        long assigned = 0;
+        for (int day = 0; day < days; day++) {
+            counts[day] = (long) (config.orders() * weights[day] / total);
+            assigned += counts[day];
+        }
+        // Rounding leaves fewer than one order per day over; the most recent days take it
+        for (int day = days - 1; assigned < config.orders(); day = (day == 0 ? days - 1 : day - 1)) {
+            counts[day]++;
+            assigned++;
+        }
+        return counts;
+    }
+
+    // Millisecond offsets into the day, in order, so ids and uuids increase with order_date
+    private long[] orderTimesOfDay(int count) {
+        long[] offsets = new long[count];
+        for (int i = 0; i < count; i++) {
+            int hour = weightedIndex(HOUR_WEIGHTS);
+            offsets[i] = hour * 3_600_000L + random.nextLong(3_600_000L);
+        }
+        Arrays.sort(offsets);
+        return offsets;
+    }
+
+    private static int ageBucket(int daysOld) {
+        if (daysOld < 1) {
+            return 0;
+        }
+        if (daysOld <= 3) {
+            return 1;
+        }
+        return daysOld <= 7 ? 2 : 3;
+    }
+
+    private int weightedIndex(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int pick = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            pick -= weights[i];
+            if (pick < 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    private int[] shuffledIndexes(int size) {
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+
+    // Same layout as Uuids.timeOrdered in the services, for the given creation time
+    private UUID timeOrderedUuid(long epochMillis) {
+        long mostSigBits = (epochMillis << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    // COPY FREEZE writes the rows already frozen, but only into a table truncated in the same transaction
+    private String copySql(String table) {
+        return "COPY " + table + " FROM STDIN" + (config.truncate() ? " WITH (FREEZE)" : "");
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT coalesce(max(id), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    // Indexes that back no constraint; returns their definitions for recreating them after the load
+    private static List<String> dropSecondaryIndexes(Connection connection, String table) throws SQLException {
+        List<String> definitions = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        try (PreparedStatement query = connection.prepareStatement("""
+                SELECT i.indexname, i.indexdef
+                FROM pg_indexes i
+                WHERE i.schemaname = current_schema()
+                  AND i.tablename = ?
+                  AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conname = i.indexname)""")) {
+            query.setString(1, table);
+            try (ResultSet resultSet = query.executeQuery()) {
+                while (resultSet.next()) {
+                    names.add(resultSet.getString(1));
+                    definitions.add(resultSet.getString(2));
+                }
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String name : names) {
+                statement.execute("DROP INDEX \"" + name + "\"");
+            }
+        }
+        return definitions;
+    }
+
+    // Sets hint bits and the visibility map, so index-only scans work straight after the load
+    private static void vacuumAnalyze(Connection connection, String table) throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM (ANALYZE) " + table);
+        }
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String elapsedSince(long startedNanos) {
+        return Duration.ofNanos(System.nanoTime() - startedNanos).withNanos(0).toString();
+    }
+}
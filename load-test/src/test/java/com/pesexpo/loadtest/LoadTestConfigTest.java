@@ -0,0 +1,81 @@
+package com.pesexpo.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class LoadTestConfigTest {
+
+    @Nested
+    @DisplayName("parse")
+    class Parse {
+
+        @Test
+        @DisplayName("Should default to the order mix against the local stub")
+        void shouldApplyDefaults() {
+            LoadTestConfig config = LoadTestConfig.parse(new String[0]);
+
+            assertThat(config.orderServiceUrl()).hasToString("http://localhost:9003");
+            assertThat(config.productServiceUrl()).isNull();
+            assertThat(config.arrivals()).isEqualTo(ArrivalSchedule.POISSON);
+            assertThat(config.mix()).containsKeys(Endpoint.ORDER_CREATE, Endpoint.ORDER_PAGE_ENRICHED);
+            assertThat(config.stubLatency()).isEqualTo(new LatencyDistribution.Fixed(Duration.ZERO));
+        }
+
+        @Test
+        @DisplayName("Should parse the mix, dropping zero weights")
+        void shouldParseMix() {
+            LoadTestConfig config = LoadTestConfig.parse(new String[]{
+                    "--product-url=http://localhost:9002", "--mix=product.get=3, order.stats=1, order.page=0"});
+
+            assertThat(config.mix()).containsExactly(
+                    entry(Endpoint.PRODUCT_GET, 3), entry(Endpoint.ORDER_STATS, 1));
+        }
+
+        @Test
+        @DisplayName("Should reject product endpoints without a product-service URL")
+        void shouldRejectProductEndpointsWithoutUrl() {
+            assertThatThrownBy(() -> LoadTestConfig.parse(new String[]{"--mix=product.get=1"}))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("--product-url");
+        }
+
+        @Test
+        @DisplayName("Should reject unknown options")
+        void shouldRejectUnknownOptions() {
+            assertThatThrownBy(() -> LoadTestConfig.parse(new String[]{"--rps=10"}))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("rps");
+        }
+    }
+
+    @Test
+    @DisplayName("Should parse durations with a unit suffix")
+    void shouldParseDurations() {
+        assertThat(LoadTestConfig.parseDuration("250us")).isEqualTo(Duration.ofNanos(250_000));
+        assertThat(LoadTestConfig.parseDuration("1.5ms")).isEqualTo(Duration.ofNanos(1_500_000));
+        assertThat(LoadTestConfig.parseDuration("2m")).isEqualTo(Duration.ofMinutes(2));
+        assertThatThrownBy(() -> LoadTestConfig.parseDuration("10"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should sample latencies inside the configured bounds")
+    void shouldSampleLatencies() {
+        LatencyDistribution uniform = LatencyDistribution.parse("uniform:2ms-4ms");
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(uniform.sampleNanos(random)).isBetween(2_000_000L, 4_000_000L);
+        }
+        assertThat(LatencyDistribution.parse("lognormal:10ms:0.5"))
+                .isEqualTo(new LatencyDistribution.LogNormal(Duration.ofMillis(10), 0.5));
+    }
+}
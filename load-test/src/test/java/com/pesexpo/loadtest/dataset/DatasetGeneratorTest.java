@@ -0,0 +1,43 @@
+package com.pesexpo.loadtest.dataset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatasetGeneratorTest {
+
+    @Test
+    @DisplayName("Should spread every order over the days, growing towards the end")
+    void shouldSpreadOrdersOverDays() {
+        DatasetConfig config = DatasetConfig.parse(new String[]{"--orders=100003", "--days=28", "--end-date=2025-03-01"});
+
+        long[] ordersPerDay = new DatasetGenerator(config).ordersPerDay();
+
+        assertThat(ordersPerDay).hasSize(28);
+        assertThat(Arrays.stream(ordersPerDay).sum()).isEqualTo(100_003);
+        // 2025-02-01 is a Saturday; the last day is a Friday at nearly twice the first weekday
+        assertThat(ordersPerDay[27]).isGreaterThan(ordersPerDay[2] * 3 / 2);
+        assertThat(ordersPerDay[0]).isGreaterThan(ordersPerDay[2]);
+    }
+
+    @Test
+    @DisplayName("Should draw low ranks with Zipfian frequency")
+    void shouldDrawZipfianRanks() {
+        ZipfDistribution zipf = new ZipfDistribution(100, 1.0);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] draws = new int[100];
+
+        for (int i = 0; i < 100_000; i++) {
+            draws[zipf.sample(random)]++;
+        }
+
+        // Rank 1 is drawn twice as often as rank 2 and ten times as often as rank 10
+        assertThat(draws[0]).isBetween(18_500, 20_000);
+        assertThat((double) draws[0] / draws[1]).isBetween(1.8, 2.2);
+        assertThat((double) draws[0] / draws[9]).isBetween(8.5, 11.5);
+    }
+}
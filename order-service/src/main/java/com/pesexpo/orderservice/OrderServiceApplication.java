@@ -1,7 +1,12 @@
 package com.pesexpo.orderservice;
 
-import org.springframework.boot.SpringApplication;import org.springframework.boot.autoconfigure.SpringBootApplication;
+import com.pesexpo.orderservice.config.NativeHints;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
 @SpringBootApplication
+@ImportRuntimeHints(NativeHints.class)
 public class OrderServiceApplication {
 
     public static void main(String[] args) {
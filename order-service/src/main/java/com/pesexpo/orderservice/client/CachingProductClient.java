@@ -0,0 +1,142 @@
+package com.pesexpo.orderservice.client;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.pesexpo.orderservice.client.dto.ProductBatchRequest;
+import com.pesexpo.orderservice.client.dto.ProductResponse;
+import com.pesexpo.orderservice.config.ProductCacheProperties;
+import com.pesexpo.orderservice.domain.dto.CursorPage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ProductClient} that serves product lookups from a bounded local cache.
+ * <p>
+ * Entries older than {@code refreshAfterWrite} are still returned while a background reload
+ * runs (refresh-ahead for hot keys, stale-while-revalidate when product-service is slow);
+ * a failed reload throws, so Caffeine keeps the stale entry until its original {@code expireAfterWrite}.
+ * A miss while product-service is unavailable is answered from the last snapshot, which is not cached.
+ * <p>
+ * Entries keep the ETag they were fetched with and reloads send it as {@code If-None-Match}, so an
+ * unchanged product is revalidated with a 304 instead of a DB read and a response body.
+ */
+public class CachingProductClient implements ProductClient {
+
+    static final String CACHE_NAME = "products";
+
+    private final ProductClient delegate;
+    private final ProductSnapshots lastKnown;
+    private final LoadingCache<String, CachedProduct> cache;
+    private final Counter notModified;
+    private final Counter modified;
+
+    public CachingProductClient(ProductClient delegate, ProductSnapshots lastKnown, ProductCacheProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.lastKnown = lastKnown;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .refreshAfterWrite(properties.refreshAfterWrite())
+                .recordStats()
+                .build(new ProductLoader());
+
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size, cache.load.duration
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.notModified = meterRegistry.counter("product.cache.revalidations", "result", "not_modified");
+        this.modified = meterRegistry.counter("product.cache.revalidations", "result", "modified");
+    }
+
+    @Override
+    public CursorPage<ProductResponse> findAllProducts(String cursor, int limit) {
+        return delegate.findAllProducts(cursor, limit);
+    }
+
+    @Override
+    public ProductResponse findProductByUuid(String uuid) {
+        try {
+            CachedProduct cached = cache.get(uuid);
+            return cached == null ? null : cached.product();
+        } catch (ResponseStatusException e) {
+            // Only a miss gets here; the snapshot is not cached, so the next read tries product-service again
+            ProductResponse snapshot = e.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE) ? lastKnown.get(uuid) : null;
+            if (snapshot == null) {
+                throw e;
+            }
+            return snapshot;
+        }
+    }
+
+    @Override
+    public ResponseEntity<ProductResponse> findProductByUuidIfNoneMatch(String uuid, String etag) {
+        return delegate.findProductByUuidIfNoneMatch(uuid, etag);
+    }
+
+    @Override
+    public List<ProductResponse> findProductsByUuids(ProductBatchRequest request) {
+        // Only the uuids missing from the cache go over the wire, in one batch call
+        return cache.getAll(request.uuids()).values().stream()
+                .map(CachedProduct::product)
+                .toList();
+    }
+
+    public void invalidate(String uuid) {
+        cache.invalidate(uuid);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static CachedProduct toCached(ResponseEntity<ProductResponse> response) {
+        ProductResponse product = response.getBody();
+        return product == null ? null : new CachedProduct(product, response.getHeaders().getETag());
+    }
+
+    private record CachedProduct(ProductResponse product, String etag) {
+    }
+
+    private class ProductLoader implements CacheLoader<String, CachedProduct> {
+
+        @Override
+        public CachedProduct load(String uuid) {
+            return toCached(delegate.findProductByUuidIfNoneMatch(uuid, null));
+        }
+
+        @Override
+        public Map<String, CachedProduct> loadAll(Set<? extends String> uuids) {
+            // Unknown uuids are left out of the result and therefore not cached. The batch endpoint
+            // carries no per-product validators, so the first refresh of these entries is a full fetch
+            return delegate.findProductsByUuids(new ProductBatchRequest(List.copyOf(uuids)))
+                    .stream()
+                    .collect(Collectors.toMap(ProductResponse::uuid, product -> new CachedProduct(product, null)));
+        }
+
+        @Override
+        public CachedProduct reload(String uuid, CachedProduct oldValue) {
+            if (oldValue.etag() == null) {
+                return load(uuid);
+            }
+
+            // Failures propagate: Caffeine then keeps oldValue without restarting its expireAfterWrite window
+            ResponseEntity<ProductResponse> response = delegate.findProductByUuidIfNoneMatch(uuid, oldValue.etag());
+            if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                // Keeping the old value restarts its expireAfterWrite window
+                notModified.increment();
+                return oldValue;
+            }
+            modified.increment();
+            return toCached(response);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.pesexpo.orderservice.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every call of an inter-service client interface as {@code client.calls}, tagged with the
+ * client, the interface method and the outcome ({@code success}, or the exception's simple name).
+ * Success timers are resolved once per method and failure timers once per method and exception type,
+ * so a call only pays for a map lookup and a sample.
+ * <p>
+ * Wrap the HTTP client itself, inside any bulkhead, circuit breaker or fallback, so the timer only sees
+ * real calls and their real outcome.
+ */
+public final class ClientMetrics {
+
+    static final String TIMER = "client.calls";
+
+    private ClientMetrics() {
+    }
+
+    public static <T> T timed(Class<T> clientType, T client, String clientName, MeterRegistry meterRegistry) {
+        Map<Method, Timer> successTimers = new HashMap<>();
+        Map<Method, Map<Class<?>, Timer>> failureTimers = new HashMap<>();
+        for (Method method : clientType.getMethods()) {
+            successTimers.put(method, timer(meterRegistry, clientName, method, "success"));
+            failureTimers.put(method, new ConcurrentHashMap<>());
+        }
+
+        Object proxy = Proxy.newProxyInstance(clientType.getClassLoader(), new Class<?>[]{clientType}, (self, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(client, args);
+            }
+            long startNanos = System.nanoTime();
+            try {
+                Object result = method.invoke(client, args);
+                successTimers.get(method).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getTargetException();
+                failureTimers.get(method)
+                        .computeIfAbsent(cause.getClass(), type -> timer(meterRegistry, clientName, method, type.getSimpleName()))
+                        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                throw cause;
+            }
+        });
+        return clientType.cast(proxy);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String clientName, Method method, String outcome) {
+        return Timer.builder(TIMER)
+                .description("Calls of inter-service client methods")
+                .tag("client", clientName)
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
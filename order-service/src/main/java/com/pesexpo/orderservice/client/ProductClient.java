@@ -1,9 +1,17 @@
 package com.pesexpo.orderservice.client;
 
+import com.pesexpo.orderservice.client.dto.ProductBatchRequest;
 import com.pesexpo.orderservice.client.dto.ProductResponse;
+import com.pesexpo.orderservice.domain.dto.CursorPage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
 
 import java.util.List;
 
@@ -11,11 +19,18 @@ import java.util.List;
 public interface ProductClient {
 
     @GetExchange
-    List<ProductResponse> findAllProducts();
+    CursorPage<ProductResponse> findAllProducts(@RequestParam(required = false) String cursor,
+                                                @RequestParam int limit);
 
     @GetExchange("/{uuid}")
     ProductResponse findProductByUuid(@PathVariable String uuid);
 
+    // 304 with no body when etag is still current; a null etag always fetches and returns the current ETag
+    @GetExchange("/{uuid}")
+    ResponseEntity<ProductResponse> findProductByUuidIfNoneMatch(@PathVariable String uuid,
+                                                                 @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String etag);
 
+    @PostExchange("/batch")
+    List<ProductResponse> findProductsByUuids(@RequestBody ProductBatchRequest request);
 
 }
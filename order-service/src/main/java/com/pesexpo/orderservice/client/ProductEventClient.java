@@ -0,0 +1,21 @@
+package com.pesexpo.orderservice.client;
+
+import com.pesexpo.orderservice.client.dto.ProductChangeEvent;
+import com.pesexpo.orderservice.domain.dto.EventOffset;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+
+import java.util.List;
+
+@HttpExchange("/api/v1/product-events")
+public interface ProductEventClient {
+
+    // Published events after the given sequence number, in sequence order
+    @GetExchange
+    List<ProductChangeEvent> findEventsAfter(@RequestParam long after, @RequestParam int limit);
+
+    @GetExchange("/latest")
+    EventOffset findLatestOffset();
+
+}
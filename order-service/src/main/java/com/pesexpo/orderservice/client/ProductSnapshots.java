@@ -0,0 +1,43 @@
+package com.pesexpo.orderservice.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pesexpo.orderservice.client.dto.ProductResponse;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Last product responses successfully fetched from product-service, served by
+ * {@link ResilientProductClient} while product-service is unavailable.
+ */
+public class ProductSnapshots {
+
+    private final Cache<String, ProductResponse> snapshots;
+
+    public ProductSnapshots(long maximumSize) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    void put(ProductResponse product) {
+        snapshots.put(product.uuid(), product);
+    }
+
+    ProductResponse get(String uuid) {
+        return snapshots.getIfPresent(uuid);
+    }
+
+    Map<String, ProductResponse> getAll(Collection<String> uuids) {
+        return snapshots.getAllPresent(uuids);
+    }
+
+    public void invalidate(String uuid) {
+        snapshots.invalidate(uuid);
+    }
+
+    public void invalidateAll() {
+        snapshots.invalidateAll();
+    }
+}
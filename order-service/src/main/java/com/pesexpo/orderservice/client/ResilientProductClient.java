@@ -0,0 +1,122 @@
+package com.pesexpo.orderservice.client;
+
+import com.pesexpo.orderservice.client.dto.ProductBatchRequest;
+import com.pesexpo.orderservice.client.dto.ProductResponse;
+import com.pesexpo.orderservice.domain.dto.CursorPage;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@link ProductClient} guarded by a bulkhead and a circuit breaker.
+ * <p>
+ * Calls fail fast while the breaker is open or the bulkhead is full; product reads then fall
+ * back to the last snapshot successfully fetched for that uuid, or fail with 503 if there is none.
+ * Conditional reads never fall back; they only record the snapshot.
+ * Without a snapshot store nothing is recorded and every failure is a 503.
+ */
+public class ResilientProductClient implements ProductClient {
+
+    private final ProductClient delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final ProductSnapshots lastKnown;
+
+    public ResilientProductClient(ProductClient delegate, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        this(delegate, circuitBreaker, bulkhead, null);
+    }
+
+    public ResilientProductClient(ProductClient delegate, CircuitBreaker circuitBreaker, Bulkhead bulkhead, ProductSnapshots lastKnown) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.lastKnown = lastKnown;
+    }
+
+    @Override
+    public CursorPage<ProductResponse> findAllProducts(String cursor, int limit) {
+        try {
+            return call(() -> delegate.findAllProducts(cursor, limit));
+        } catch (HttpClientErrorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw unavailable(e);
+        }
+    }
+
+    @Override
+    public ProductResponse findProductByUuid(String uuid) {
+        try {
+            ProductResponse product = call(() -> delegate.findProductByUuid(uuid));
+            if (product != null) {
+                remember(product);
+            }
+            return product;
+        } catch (HttpClientErrorException e) {
+            // e.g. 404: product-service answered, a snapshot would hide a real deletion
+            throw e;
+        } catch (RuntimeException e) {
+            ProductResponse snapshot = lastKnown == null ? null : lastKnown.get(uuid);
+            if (snapshot == null) {
+                throw unavailable(e);
+            }
+            return snapshot;
+        }
+    }
+
+    @Override
+    public ResponseEntity<ProductResponse> findProductByUuidIfNoneMatch(String uuid, String etag) {
+        try {
+            ResponseEntity<ProductResponse> response = call(() -> delegate.findProductByUuidIfNoneMatch(uuid, etag));
+            if (response.getBody() != null) {
+                remember(response.getBody());
+            }
+            return response;
+        } catch (HttpClientErrorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // No snapshot here: a cache would store it as freshly fetched. The caching client falls back on a miss
+            // and keeps serving its own copy when a revalidation fails
+            throw unavailable(e);
+        }
+    }
+
+    @Override
+    public List<ProductResponse> findProductsByUuids(ProductBatchRequest request) {
+        try {
+            List<ProductResponse> products = call(() -> delegate.findProductsByUuids(request));
+            products.forEach(this::remember);
+            return products;
+        } catch (HttpClientErrorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // Only answer from snapshots when all are known, otherwise unknown products would look deleted
+            Map<String, ProductResponse> snapshots = lastKnown == null ? Map.of() : lastKnown.getAll(request.uuids());
+            if (snapshots.size() < request.uuids().stream().distinct().count()) {
+                throw unavailable(e);
+            }
+            return List.copyOf(snapshots.values());
+        }
+    }
+
+    private void remember(ProductResponse product) {
+        if (lastKnown != null) {
+            lastKnown.put(product);
+        }
+    }
+
+    private <T> T call(Supplier<T> supplier) {
+        return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, supplier)).get();
+    }
+
+    private static ResponseStatusException unavailable(RuntimeException cause) {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Product service unavailable", cause);
+    }
+}
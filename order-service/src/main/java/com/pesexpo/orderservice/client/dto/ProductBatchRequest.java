@@ -0,0 +1,8 @@
+package com.pesexpo.orderservice.client.dto;
+
+import java.util.List;
+
+public record ProductBatchRequest(
+        List<String> uuids
+) {
+}
@@ -0,0 +1,15 @@
+package com.pesexpo.orderservice.client.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// type is CREATED, UPDATED or DELETED
+public record ProductChangeEvent(
+        long sequenceNumber,
+        String type,
+        String productUuid,
+        String productName,
+        BigDecimal price,
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,74 @@
+package com.pesexpo.orderservice.config;
+
+import com.pesexpo.orderservice.datasource.CountingDataSource;
+import com.pesexpo.orderservice.datasource.ReadYourWritesDataSource;
+import com.pesexpo.orderservice.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replicas and everything else to the primary.
+ * <p>
+ * The application {@link DataSource} defers fetching a physical connection to the first statement,
+ * when the transaction's read-only flag is known, and then takes it from the primary pool or from
+ * {@link ReplicaRoutingDataSource}. Without a transaction, or with a read-write one, work stays on
+ * the primary, including read-only work joining a read-write transaction.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties dataSourceProperties,
+                                                             DataSourceRoutingProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicaPools = new LinkedHashMap<>();
+        for (DataSourceRoutingProperties.Replica replica : properties.replicas()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + replica.name());
+            pool.setJdbcUrl(replica.url());
+            pool.setUsername(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername());
+            pool.setPassword(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword());
+            pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            pool.setMaximumPoolSize(properties.replicaPoolSize());
+            pool.setReadOnly(true);
+            // Connections are opened on first use, so an unreachable replica does not fail startup
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricRegistry(meterRegistry);
+            replicaPools.put(replica.name(), pool);
+        }
+        DataSource primary = new CountingDataSource(primaryDataSource, ReplicaRoutingDataSource.PRIMARY, meterRegistry);
+        return new ReplicaRoutingDataSource(primary, replicaPools, properties.maxLag(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource, DataSourceRoutingProperties properties) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(new ReadYourWritesDataSource(
+                replicaRoutingDataSource.getResolvedDefaultDataSource(), properties.primaryWindow()));
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
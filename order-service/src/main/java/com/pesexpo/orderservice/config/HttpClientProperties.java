@@ -0,0 +1,32 @@
+package com.pesexpo.orderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * HTTP client used for calls to product-service.
+ *
+ * @param baseUrl                base url of product-service
+ * @param connectTimeout         max time to establish a TCP connection
+ * @param responseTimeout        max time to wait for response data once the request is sent
+ * @param poolAcquireTimeout     max time to wait for a pooled connection before failing; HTTP/1.1 pool only
+ * @param maxConnections         pool size across all hosts; HTTP/1.1 pool only
+ * @param maxConnectionsPerRoute pool size per host; HTTP/1.1 pool only
+ * @param idleTimeout            pooled connections idle for longer are closed; HTTP/1.1 pool only
+ * @param http2                  use the JDK client with h2c, multiplexing requests over one connection instead of pooling;
+ *                               the pool settings and pool metrics do not apply
+ */
+@ConfigurationProperties(prefix = "http-client")
+public record HttpClientProperties(
+        @DefaultValue("http://localhost:9002") String baseUrl,
+        @DefaultValue("1s") Duration connectTimeout,
+        @DefaultValue("3s") Duration responseTimeout,
+        @DefaultValue("500ms") Duration poolAcquireTimeout,
+        @DefaultValue("200") int maxConnections,
+        @DefaultValue("100") int maxConnectionsPerRoute,
+        @DefaultValue("30s") Duration idleTimeout,
+        @DefaultValue("false") boolean http2
+) {
+}
@@ -0,0 +1,28 @@
+package com.pesexpo.orderservice.config;
+
+import com.pesexpo.orderservice.client.ProductClient;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.aot.ReflectiveRuntimeHintsRegistrar;
+
+import java.sql.Connection;
+
+/**
+ * Native-image hints that AOT processing cannot derive from the bean definitions. Entities,
+ * repositories, controllers and configuration properties are covered by Spring's own AOT support.
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // HttpServiceProxyFactory proxy, and the ClientMetrics proxy around the resilient client
+        hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(ProductClient.class));
+        hints.proxies().registerJdkProxy(ProductClient.class);
+        // The bean is exposed as CachingProductClient, so its @HttpExchange methods and DTOs are not scanned
+        new ReflectiveRuntimeHintsRegistrar().registerRuntimeHints(hints, ProductClient.class);
+
+        // CountingDataSource connections, with datasource-routing enabled
+        hints.proxies().registerJdkProxy(Connection.class);
+    }
+}
@@ -0,0 +1,17 @@
+package com.pesexpo.orderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Startup backfill of the product snapshot on legacy orders.
+ *
+ * @param enabled   run the backfill once the application is ready
+ * @param batchSize orders read and products fetched per round; must not exceed the max batch size accepted by product-service
+ */
+@ConfigurationProperties(prefix = "order-backfill")
+public record OrderBackfillProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("500") int batchSize
+) {
+}
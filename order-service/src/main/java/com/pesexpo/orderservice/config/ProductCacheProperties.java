@@ -0,0 +1,23 @@
+package com.pesexpo.orderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Local cache in front of product-service lookups.
+ *
+ * @param maximumSize       max number of products kept, least recently used are evicted first
+ * @param expireAfterWrite  hard TTL, after which an entry is dropped and the next read blocks on a load
+ * @param refreshAfterWrite entries read after this age are served stale and revalidated in the background (If-None-Match)
+ * @param snapshotSize      max number of last known products kept as fallback while product-service is unavailable
+ */
+@ConfigurationProperties(prefix = "product-cache")
+public record ProductCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration expireAfterWrite,
+        @DefaultValue("1m") Duration refreshAfterWrite,
+        @DefaultValue("100000") long snapshotSize
+) {
+}
@@ -0,0 +1,13 @@
+package com.pesexpo.orderservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ProductEventProperties.class)
+@ConditionalOnProperty(name = "product-events.pull", havingValue = "true")
+public class ProductEventConfig {
+}
@@ -0,0 +1,21 @@
+package com.pesexpo.orderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Pulling product change events from product-service, instead of waiting for them to be pushed.
+ *
+ * @param pull          poll product-service for events; needed when more than one instance runs
+ * @param pollInterval  delay between polls
+ * @param batchSize     events fetched per request
+ */
+@ConfigurationProperties(prefix = "product-events")
+public record ProductEventProperties(
+        @DefaultValue("false") boolean pull,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("500") int batchSize
+) {
+}
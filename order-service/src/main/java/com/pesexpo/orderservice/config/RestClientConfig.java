@@ -1,28 +1,94 @@
 package com.pesexpo.orderservice.config;
 
+import com.pesexpo.orderservice.client.CachingProductClient;
+import com.pesexpo.orderservice.client.ClientMetrics;
 import com.pesexpo.orderservice.client.ProductClient;
+import com.pesexpo.orderservice.client.ProductEventClient;
+import com.pesexpo.orderservice.client.ProductSnapshots;
+import com.pesexpo.orderservice.client.ResilientProductClient;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 
 @Configuration
+@EnableConfigurationProperties(ProductCacheProperties.class)
 public class RestClientConfig {
 
     @Bean
-    public ProductClient productClient() {
+    public ProductSnapshots productSnapshots(ProductCacheProperties productCacheProperties) {
+        return new ProductSnapshots(productCacheProperties.snapshotSize());
+    }
+
+    @Bean
+    @Primary
+    public CachingProductClient productClient(HttpClientProperties httpClientProperties,
+                                              ClientHttpRequestFactory interServiceRequestFactory,
+                                              CircuitBreaker productServiceCircuitBreaker,
+                                              Bulkhead productServiceBulkhead,
+                                              ProductCacheProperties productCacheProperties,
+                                              ProductSnapshots productSnapshots,
+                                              MeterRegistry meterRegistry,
+                                              ObservationRegistry observationRegistry) {
+        HttpServiceProxyFactory factory = productServiceProxyFactory(httpClientProperties, interServiceRequestFactory,
+                observationRegistry);
+
+        // cache -> bulkhead + circuit breaker -> client.calls timer -> HTTP
+        ProductClient timedClient = ClientMetrics.timed(ProductClient.class, factory.createClient(ProductClient.class),
+                "product-service", meterRegistry);
+        ProductClient resilientClient = new ResilientProductClient(timedClient, productServiceCircuitBreaker,
+                productServiceBulkhead, productSnapshots);
+        return new CachingProductClient(resilientClient, productSnapshots, productCacheProperties, meterRegistry);
+    }
+
+    // Bulk reads of background jobs: guarded and timed like live reads, but kept out of the live cache
+    // and the snapshots so a full scan does not evict the hot products
+    @Bean
+    public ProductClient uncachedProductClient(HttpClientProperties httpClientProperties,
+                                               ClientHttpRequestFactory interServiceRequestFactory,
+                                               CircuitBreaker productServiceCircuitBreaker,
+                                               Bulkhead productServiceBulkhead,
+                                               MeterRegistry meterRegistry,
+                                               ObservationRegistry observationRegistry) {
+        HttpServiceProxyFactory factory = productServiceProxyFactory(httpClientProperties, interServiceRequestFactory,
+                observationRegistry);
+
+        ProductClient timedClient = ClientMetrics.timed(ProductClient.class, factory.createClient(ProductClient.class),
+                "product-service", meterRegistry);
+        return new ResilientProductClient(timedClient, productServiceCircuitBreaker, productServiceBulkhead);
+    }
+
+    @Bean
+    public ProductEventClient productEventClient(HttpClientProperties httpClientProperties,
+                                                 ClientHttpRequestFactory interServiceRequestFactory,
+                                                 ObservationRegistry observationRegistry) {
+        return productServiceProxyFactory(httpClientProperties, interServiceRequestFactory, observationRegistry)
+                .createClient(ProductEventClient.class);
+    }
+
+    private static HttpServiceProxyFactory productServiceProxyFactory(HttpClientProperties httpClientProperties,
+                                                                      ClientHttpRequestFactory interServiceRequestFactory,
+                                                                      ObservationRegistry observationRegistry) {
         // OpenTelemetry Spring Boot Starter auto-instruments RestClient
         // Trace context propagation happens automatically via bytecode instrumentation
         RestClient restClient = RestClient.builder()
-                .baseUrl("http://localhost:9002")
+                .baseUrl(httpClientProperties.baseUrl())
+                .requestFactory(interServiceRequestFactory)
+                // http.client.requests per uri template and status
+                .observationRegistry(observationRegistry)
                 .build();
 
-        HttpServiceProxyFactory factory = HttpServiceProxyFactory
+        return HttpServiceProxyFactory
                 .builderFor(RestClientAdapter.create(restClient))
                 .build();
-
-        return factory.createClient(ProductClient.class);
     }
 
 }
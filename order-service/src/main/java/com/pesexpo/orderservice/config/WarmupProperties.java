@@ -0,0 +1,43 @@
+package com.pesexpo.orderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Warm-up of the hot read endpoints between startup and readiness.
+ *
+ * @param enabled         run the warm-up, reporting the warmup health contributor out of service until it is done
+ * @param timeBudget      readiness is reported after this long even if the latency target was not met
+ * @param latencyTarget   warm once the p99 of a round's successful requests is at or below this
+ * @param minSuccessRatio share of a round's requests that must succeed before its p99 counts; a warm-up that
+ *                        never gets there is reported as degraded
+ * @param minRequests     requests sent before the latency target is checked, so the JIT has seen enough calls
+ * @param roundSize       requests per round; the p99 is taken per round
+ * @param concurrency     requests in flight at once; also how many pooled connections get opened
+ * @param requestTimeout  timeout of one warm-up request
+ * @param requests        GET paths to exercise in turn; {@code {orderUuid}} and {@code {productUuid}} are
+ *                        filled from the first page of orders, and paths using them are skipped when there are none
+ */
+@ConfigurationProperties(prefix = "warmup")
+public record WarmupProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("60s") Duration timeBudget,
+        @DefaultValue("50ms") Duration latencyTarget,
+        @DefaultValue("0.99") double minSuccessRatio,
+        @DefaultValue("2000") int minRequests,
+        @DefaultValue("200") int roundSize,
+        @DefaultValue("4") int concurrency,
+        @DefaultValue("5s") Duration requestTimeout,
+        @DefaultValue({
+                "/api/v1/orders?limit=50",
+                "/api/v1/orders?limit=50&enrich=true",
+                "/api/v1/orders/{orderUuid}",
+                "/api/v1/orders/product/{productUuid}",
+                "/api/v1/orders/product/{productUuid}/stats",
+                "/api/v1/orders/status/PENDING?limit=50"
+        }) List<String> requests
+) {
+}
@@ -0,0 +1,41 @@
+package com.pesexpo.orderservice.controller;
+
+import com.pesexpo.orderservice.domain.dto.DailyTotals;
+import com.pesexpo.orderservice.domain.dto.ProductSales;
+import com.pesexpo.orderservice.domain.dto.StatusCount;
+import com.pesexpo.orderservice.service.OrderAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/orders/analytics")
+@RequiredArgsConstructor
+public class OrderAnalyticsController {
+
+    private final OrderAnalyticsService orderAnalyticsService;
+
+    @GetMapping(path = "products")
+    public ResponseEntity<List<ProductSales>> salesByProduct(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                             @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(orderAnalyticsService.salesByProduct(from, to, limit));
+    }
+
+    @GetMapping(path = "statuses")
+    public ResponseEntity<List<StatusCount>> countsByStatus(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(orderAnalyticsService.countsByStatus(from, to));
+    }
+
+    @GetMapping(path = "daily")
+    public ResponseEntity<List<DailyTotals>> dailyTotals(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(orderAnalyticsService.dailyTotals(from, to));
+    }
+
+}
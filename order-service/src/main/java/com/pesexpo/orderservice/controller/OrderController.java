@@ -1,15 +1,26 @@
 package com.pesexpo.orderservice.controller;
 
+import com.pesexpo.orderservice.domain.OrderStatus;
+import com.pesexpo.orderservice.domain.dto.BatchItemResult;
 import com.pesexpo.orderservice.domain.dto.CreateOrder;
+import com.pesexpo.orderservice.domain.dto.CreateOrders;
+import com.pesexpo.orderservice.domain.dto.CursorPage;
+import com.pesexpo.orderservice.domain.dto.ProductOrderStatsResponse;
 import com.pesexpo.orderservice.domain.dto.ResponseOrder;
 import com.pesexpo.orderservice.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/orders")
@@ -17,6 +28,7 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
 
     @PostMapping
     public ResponseEntity<String> createOrder(@Valid @RequestBody CreateOrder createOrder) {
@@ -24,19 +36,61 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body("Order created successfully");
     }
 
+    @PostMapping(path = "batch")
+    public ResponseEntity<List<BatchItemResult>> createOrders(@Valid @RequestBody CreateOrders createOrders) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(orderService.createOrders(createOrders.orders()));
+    }
+
     @GetMapping
-    public ResponseEntity<List<ResponseOrder>> findAll() {
-        return ResponseEntity.ok(orderService.findAll());
+    public ResponseEntity<CursorPage<ResponseOrder>> findAll(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "50") int limit,
+                                                             @RequestParam(defaultValue = "false") boolean enrich) {
+        return ResponseEntity.ok(orderService.findAll(cursor, limit, enrich));
+    }
+
+    @GetMapping(path = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestParam(defaultValue = "false") boolean gzip) {
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+                orderService.exportOrders(gzipStream);
+                gzipStream.finish();
+            } else {
+                OutputStream buffered = new BufferedOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+                orderService.exportOrders(buffered);
+                buffered.flush();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     @GetMapping(path = "{uuid}")
-    public ResponseEntity<ResponseOrder> findByUuid(@PathVariable String uuid) {
-        return ResponseEntity.ok(orderService.findByUuid(uuid));
+    public ResponseEntity<ResponseOrder> findByUuid(@PathVariable String uuid,
+                                                    @RequestParam(defaultValue = "false") boolean enrich) {
+        return ResponseEntity.ok(orderService.findByUuid(uuid, enrich));
     }
 
     @GetMapping(path = "product/{productUuid}")
-    public ResponseEntity<List<ResponseOrder>> findByProductUuid(@PathVariable String productUuid) {
-        return ResponseEntity.ok(orderService.findByProductUuid(productUuid));
+    public ResponseEntity<List<ResponseOrder>> findByProductUuid(@PathVariable String productUuid,
+                                                                 @RequestParam(defaultValue = "false") boolean enrich) {
+        return ResponseEntity.ok(orderService.findByProductUuid(productUuid, enrich));
+    }
+
+    @GetMapping(path = "product/{productUuid}/stats")
+    public ResponseEntity<ProductOrderStatsResponse> findStatsByProductUuid(@PathVariable String productUuid) {
+        return ResponseEntity.ok(orderService.findStatsByProductUuid(productUuid));
+    }
+
+    @GetMapping(path = "status/{status}")
+    public ResponseEntity<List<ResponseOrder>> findByStatus(@PathVariable OrderStatus status,
+                                                            @RequestParam(defaultValue = "50") int limit,
+                                                            @RequestParam(defaultValue = "false") boolean enrich) {
+        return ResponseEntity.ok(orderService.findByStatus(status, limit, enrich));
     }
 
     @DeleteMapping(path = "{uuid}")
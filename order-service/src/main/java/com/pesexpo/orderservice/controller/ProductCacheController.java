@@ -0,0 +1,27 @@
+package com.pesexpo.orderservice.controller;
+
+import com.pesexpo.orderservice.client.CachingProductClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/product-cache")
+@RequiredArgsConstructor
+public class ProductCacheController {
+
+    private final CachingProductClient productClient;
+
+    @DeleteMapping(path = "{productUuid}")
+    public ResponseEntity<String> invalidate(@PathVariable String productUuid) {
+        productClient.invalidate(productUuid);
+        return ResponseEntity.ok("Product cache entry invalidated");
+    }
+
+    @DeleteMapping
+    public ResponseEntity<String> invalidateAll() {
+        productClient.invalidateAll();
+        return ResponseEntity.ok("Product cache invalidated");
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.pesexpo.orderservice.controller;
+
+import com.pesexpo.orderservice.client.dto.ProductChangeEvent;
+import com.pesexpo.orderservice.domain.dto.EventOffset;
+import com.pesexpo.orderservice.service.ProductEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/product-events")
+@RequiredArgsConstructor
+public class ProductEventController {
+
+    private final ProductEventService productEventService;
+
+    @PostMapping
+    public ResponseEntity<EventOffset> apply(@RequestBody List<ProductChangeEvent> events) {
+        return ResponseEntity.ok(productEventService.apply(events));
+    }
+
+    @GetMapping(path = "offset")
+    public ResponseEntity<EventOffset> currentOffset() {
+        return ResponseEntity.ok(productEventService.currentOffset());
+    }
+
+}
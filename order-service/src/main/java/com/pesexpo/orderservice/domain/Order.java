@@ -17,16 +17,25 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Order {
 
+    // Pooled sequence: ids are reserved 50 at a time, which keeps Hibernate insert batching enabled
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_id_seq")
+    @SequenceGenerator(name = "orders_id_seq", sequenceName = "orders_id_seq", allocationSize = 50)
     private Integer id;
 
-    @Column(unique = true, nullable = false)
+    @Convert(converter = UuidConverter.class)
+    @Column(unique = true, nullable = false, columnDefinition = "uuid")
     private String uuid;
 
     @Column(nullable = false)
     private String productUuid;
 
+    // Product snapshot taken when the order was placed; null on rows the backfill has not reached
+    @Column(length = 100)
+    private String productName;
+
+    private BigDecimal unitPrice;
+
     @Column(nullable = false)
     private Integer quantity;
 
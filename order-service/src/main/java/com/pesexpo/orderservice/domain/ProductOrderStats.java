@@ -0,0 +1,38 @@
+package com.pesexpo.orderservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Running order totals of one product, maintained by {@code ProductOrderStatsRepository} as orders
+ * are created and deleted; never written through this entity.
+ */
+@Entity
+@Table(name = "product_order_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductOrderStats {
+
+    @Id
+    private String productUuid;
+
+    @Column(nullable = false)
+    private Long orderCount;
+
+    @Column(nullable = false)
+    private Long totalQuantity;
+
+    @Column(nullable = false)
+    private BigDecimal totalRevenue;
+
+    private LocalDateTime lastOrderDate;
+
+}
@@ -0,0 +1,26 @@
+package com.pesexpo.orderservice.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.UUID;
+
+/**
+ * Keeps uuids as strings in the API while storing them in a native 16-byte {@code uuid} column.
+ * <p>
+ * Strings that are not UUIDs cannot match any stored row, so they are bound as NULL, which
+ * compares unequal to every row, turning lookups by a malformed uuid into "not found".
+ */
+@Converter
+public class UuidConverter implements AttributeConverter<String, UUID> {
+
+    @Override
+    public UUID convertToDatabaseColumn(String attribute) {
+        return Uuids.parseOrNull(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(UUID dbData) {
+        return dbData == null ? null : dbData.toString();
+    }
+}
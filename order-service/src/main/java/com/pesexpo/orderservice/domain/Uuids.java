@@ -0,0 +1,39 @@
+package com.pesexpo.orderservice.domain;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Time-ordered (RFC 9562 version 7) UUIDs.
+ * <p>
+ * The leading 48 bits are the Unix epoch millis, so new keys land at the right edge of the
+ * unique index instead of random pages. The random bits come from {@link ThreadLocalRandom}
+ * rather than the shared {@code SecureRandom} behind {@link UUID#randomUUID()}; the keys are
+ * identifiers, not secrets.
+ */
+public final class Uuids {
+
+    private Uuids() {
+    }
+
+    public static UUID timeOrdered() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (System.currentTimeMillis() << 16)
+                | 0x7000L
+                | (random.nextLong() & 0x0FFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    // Null for strings that are not UUIDs; no stored key can match them
+    public static UUID parseOrNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.pesexpo.orderservice.domain.dto;
+
+/**
+ * Outcome of one item of a bulk request, {@code index} being its position in the request.
+ */
+public record BatchItemResult(
+        int index,
+        boolean created,
+        String uuid,
+        String error
+) {
+
+    public static BatchItemResult created(int index, String uuid) {
+        return new BatchItemResult(index, true, uuid, null);
+    }
+
+    public static BatchItemResult failed(int index, String error) {
+        return new BatchItemResult(index, false, null, error);
+    }
+}
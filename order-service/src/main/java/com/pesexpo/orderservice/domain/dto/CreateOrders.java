@@ -0,0 +1,16 @@
+package com.pesexpo.orderservice.domain.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CreateOrders(
+
+        @NotEmpty(message = "Orders can't be empty")
+        @Size(max = 5000, message = "At most 5000 orders per request")
+        List<@Valid CreateOrder> orders
+
+) {
+}
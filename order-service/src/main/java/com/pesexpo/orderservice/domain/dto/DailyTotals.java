@@ -0,0 +1,12 @@
+package com.pesexpo.orderservice.domain.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailyTotals(
+        LocalDate day,
+        Long orderCount,
+        Long totalQuantity,
+        BigDecimal revenue
+) {
+}
@@ -0,0 +1,4 @@
+package com.pesexpo.orderservice.domain.dto;
+
+public record EventOffset(long offset) {
+}
@@ -0,0 +1,16 @@
+package com.pesexpo.orderservice.domain.dto;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Builder
+public record ProductOrderStatsResponse(
+        String productUuid,
+        long orderCount,
+        long totalQuantity,
+        BigDecimal totalRevenue,
+        LocalDateTime lastOrderDate
+) {
+}
@@ -0,0 +1,11 @@
+package com.pesexpo.orderservice.domain.dto;
+
+import java.math.BigDecimal;
+
+public record ProductSales(
+        String productUuid,
+        Long orderCount,
+        Long totalQuantity,
+        BigDecimal revenue
+) {
+}
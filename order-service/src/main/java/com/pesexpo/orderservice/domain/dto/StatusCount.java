@@ -0,0 +1,9 @@
+package com.pesexpo.orderservice.domain.dto;
+
+import com.pesexpo.orderservice.domain.OrderStatus;
+
+public record StatusCount(
+        OrderStatus status,
+        Long orderCount
+) {
+}
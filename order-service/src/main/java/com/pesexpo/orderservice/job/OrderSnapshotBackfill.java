@@ -0,0 +1,115 @@
+package com.pesexpo.orderservice.job;
+
+import com.pesexpo.orderservice.client.ProductClient;
+import com.pesexpo.orderservice.client.dto.ProductBatchRequest;
+import com.pesexpo.orderservice.client.dto.ProductResponse;
+import com.pesexpo.orderservice.config.OrderBackfillProperties;
+import com.pesexpo.orderservice.domain.Order;
+import com.pesexpo.orderservice.repository.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fills the product snapshot of orders created before {@link Order#getUnitPrice()} existed.
+ * <p>
+ * The unit price is derived from the stored total, so it is the price actually ordered; the name
+ * is the current product name, or left empty when the product has since been deleted. Rows are
+ * written with bulk updates on the primary, so orders deleted meanwhile are simply skipped.
+ */
+@Component
+@ConditionalOnProperty(name = "order-backfill.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(OrderBackfillProperties.class)
+public class OrderSnapshotBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderSnapshotBackfill.class);
+
+    private final OrderRepository orderRepository;
+    private final ProductClient productClient;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor taskExecutor;
+    private final OrderBackfillProperties properties;
+
+    // The uncached client, so scanning every legacy order neither evicts the live product cache nor fills the snapshots
+    public OrderSnapshotBackfill(OrderRepository orderRepository,
+                                 @Qualifier("uncachedProductClient") ProductClient productClient,
+                                 TransactionTemplate transactionTemplate,
+                                 AsyncTaskExecutor taskExecutor,
+                                 OrderBackfillProperties properties) {
+        this.orderRepository = orderRepository;
+        this.productClient = productClient;
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        taskExecutor.execute(this::run);
+    }
+
+    void run() {
+        try {
+            int updated = backfill();
+            if (updated > 0) {
+                log.info("Backfilled product snapshot of {} orders", updated);
+            }
+        } catch (RuntimeException e) {
+            // Remaining rows are picked up on the next start
+            log.warn("Order snapshot backfill stopped: {}", e.getMessage());
+        }
+    }
+
+    int backfill() {
+        int updated = 0;
+        int lastId = 0;
+        int batchSize = properties.batchSize();
+        List<Order> batch;
+        do {
+            batch = orderRepository.findByUnitPriceIsNullAndIdGreaterThanOrderByIdAsc(lastId, Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            Map<String, List<Integer>> idsByName = idsByProductName(batch);
+            updated += transactionTemplate.execute(status -> idsByName.entrySet().stream()
+                    .mapToInt(entry -> orderRepository.fillSnapshot(entry.getKey(), entry.getValue()))
+                    .sum());
+
+            lastId = batch.get(batch.size() - 1).getId();
+        } while (batch.size() == batchSize);
+        return updated;
+    }
+
+    // One update per name; the null key collects orders of deleted products
+    private Map<String, List<Integer>> idsByProductName(List<Order> orders) {
+        List<String> productUuids = orders.stream()
+                .map(Order::getProductUuid)
+                .distinct()
+                .toList();
+        Map<String, ProductResponse> products = productClient.findProductsByUuids(new ProductBatchRequest(productUuids)).stream()
+                .collect(Collectors.toMap(ProductResponse::uuid, Function.identity()));
+
+        Map<String, List<Integer>> idsByName = new HashMap<>();
+        for (Order order : orders) {
+            ProductResponse product = products.get(order.getProductUuid());
+            idsByName.computeIfAbsent(product != null ? product.productName() : null, name -> new ArrayList<>())
+                    .add(order.getId());
+        }
+        return idsByName;
+    }
+}
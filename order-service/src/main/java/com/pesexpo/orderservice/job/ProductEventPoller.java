@@ -0,0 +1,56 @@
+package com.pesexpo.orderservice.job;
+
+import com.pesexpo.orderservice.client.ProductEventClient;
+import com.pesexpo.orderservice.client.dto.ProductChangeEvent;
+import com.pesexpo.orderservice.config.ProductEventProperties;
+import com.pesexpo.orderservice.service.ProductEventService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Pulls product change events from product-service, so every instance sees every event rather
+ * than only the instance a push happened to reach.
+ * <p>
+ * The first poll starts at the newest event: the caches the events evict start empty, so nothing
+ * older can be stale in them.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product-events.pull", havingValue = "true")
+public class ProductEventPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductEventPoller.class);
+
+    private final ProductEventClient productEventClient;
+    private final ProductEventService productEventService;
+    private final ProductEventProperties properties;
+
+    // Only touched by the scheduler thread
+    private long after = -1;
+
+    @Scheduled(fixedDelayString = "${product-events.poll-interval:1s}")
+    public void poll() {
+        try {
+            if (after < 0) {
+                after = productEventClient.findLatestOffset().offset();
+            }
+            List<ProductChangeEvent> events;
+            do {
+                events = productEventClient.findEventsAfter(after, properties.batchSize());
+                if (events.isEmpty()) {
+                    break;
+                }
+                after = productEventService.apply(events).offset();
+            } while (events.size() == properties.batchSize());
+        } catch (RuntimeException e) {
+            // Retried from the same offset on the next poll
+            log.warn("Product event poll failed: {}", e.getMessage());
+        }
+    }
+}
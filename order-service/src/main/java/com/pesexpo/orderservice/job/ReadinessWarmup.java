@@ -0,0 +1,262 @@
+package com.pesexpo.orderservice.job;
+
+import com.pesexpo.orderservice.config.WarmupProperties;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls the hot read endpoints through the local HTTP port after startup, and reports the
+ * {@code warmup} health contributor as {@code OUT_OF_SERVICE} until done. The contributor is part
+ * of the readiness group, so the instance takes no traffic while the JIT, Jackson, Hibernate, the
+ * connection pools, the product {@code RestClient} and the product cache warm up.
+ * <p>
+ * Only GET requests are sent, so the warm-up writes nothing. It is done once a round of requests
+ * has a p99 within the latency target after the minimum number of requests, or when the time
+ * budget runs out. With the warm-up disabled the contributor is always {@code UP}.
+ */
+@Component("warmup")
+@RequiredArgsConstructor
+@EnableConfigurationProperties(WarmupProperties.class)
+public class ReadinessWarmup implements HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadinessWarmup.class);
+    private static final String ORDER_UUID = "{orderUuid}";
+    private static final String PRODUCT_UUID = "{productUuid}";
+
+    private final WarmupProperties properties;
+    private final Environment environment;
+    private final ObjectMapper objectMapper;
+    private final AsyncTaskExecutor taskExecutor;
+    private volatile boolean warm;
+    private volatile int requestsSent;
+    private volatile long roundP99Nanos;
+    private volatile double roundSuccessRatio;
+    private volatile Outcome outcome;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.enabled()) {
+            taskExecutor.execute(this::run);
+        }
+    }
+
+    @Override
+    public Health health() {
+        if (!properties.enabled()) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        Health.Builder health = (warm ? Health.up() : Health.outOfService())
+                .withDetail("requests", requestsSent)
+                .withDetail("roundP99Millis", TimeUnit.NANOSECONDS.toMillis(roundP99Nanos))
+                .withDetail("roundSuccessRatio", roundSuccessRatio);
+        if (outcome != null) {
+            health.withDetail("outcome", outcome.label);
+        }
+        return health.build();
+    }
+
+    void run() {
+        long startedAt = System.nanoTime();
+        try {
+            Result result = warmUp(startedAt);
+            outcome = result.outcome();
+            String message = "Warm-up {} after {} requests in {} ms, last round p99 {} ms and {}% successful, {} failed";
+            Object[] arguments = {result.outcome().description, result.requests(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt),
+                    TimeUnit.NANOSECONDS.toMillis(result.p99Nanos()), Math.round(result.successRatio() * 100),
+                    result.failures()};
+            if (result.outcome() == Outcome.DEGRADED) {
+                log.warn(message, arguments);
+            } else {
+                log.info(message, arguments);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            // A cold instance still beats one that never becomes ready
+            log.warn("Warm-up stopped: {}", e.getMessage());
+        } finally {
+            warm = true;
+        }
+    }
+
+    enum Outcome {
+        TARGET_MET("target-met", "reached the latency target"),
+        BUDGET_EXHAUSTED("budget-exhausted", "used its time budget"),
+        // The last round failed too often for its latency to mean anything
+        DEGRADED("degraded", "used its time budget with too many failed requests");
+
+        private final String label;
+        private final String description;
+
+        Outcome(String label, String description) {
+            this.label = label;
+            this.description = description;
+        }
+    }
+
+    record Result(Outcome outcome, int requests, long p99Nanos, double successRatio, int failures) {
+    }
+
+    /**
+     * Summary of one round.
+     *
+     * @param p99Nanos     p99 of the successful requests only, 0 when none succeeded
+     * @param successRatio share of the round's requests that succeeded
+     * @param failures     requests that failed or answered non-2xx
+     */
+    record Round(long p99Nanos, double successRatio, int failures) {
+    }
+
+    private Result warmUp(long startedAt) throws IOException, InterruptedException {
+        long deadline = startedAt + properties.timeBudget().toNanos();
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(properties.requestTimeout())
+                .build();
+        URI baseUrl = URI.create("http://localhost:" + environment.getRequiredProperty("local.server.port"));
+        Samples samples = sample(client, baseUrl);
+        List<String> templates = properties.requests().stream()
+                .filter(samples::covers)
+                .toList();
+        if (templates.isEmpty()) {
+            return new Result(Outcome.BUDGET_EXHAUSTED, 0, 0, 0, 0);
+        }
+
+        int sent = 0;
+        int failures = 0;
+        Round last = new Round(0, 0, 0);
+        try (ExecutorService workers = Executors.newFixedThreadPool(properties.concurrency(), Thread.ofVirtual().factory())) {
+            while (System.nanoTime() < deadline) {
+                List<Callable<Long>> round = new ArrayList<>(properties.roundSize());
+                for (int i = 0; i < properties.roundSize(); i++) {
+                    URI uri = baseUrl.resolve(expand(templates, samples, sent + i));
+                    round.add(() -> timedGet(client, uri));
+                }
+                long[] latencies = new long[round.size()];
+                List<Future<Long>> results = workers.invokeAll(round);
+                for (int i = 0; i < latencies.length; i++) {
+                    latencies[i] = awaitLatency(results.get(i));
+                }
+                last = summarize(latencies);
+                sent += latencies.length;
+                failures += last.failures();
+                requestsSent = sent;
+                roundP99Nanos = last.p99Nanos();
+                roundSuccessRatio = last.successRatio();
+                if (sent >= properties.minRequests() && last.successRatio() >= properties.minSuccessRatio()
+                        && last.p99Nanos() <= properties.latencyTarget().toNanos()) {
+                    return new Result(Outcome.TARGET_MET, sent, last.p99Nanos(), last.successRatio(), failures);
+                }
+            }
+        }
+        Outcome outcome = last.successRatio() >= properties.minSuccessRatio() ? Outcome.BUDGET_EXHAUSTED : Outcome.DEGRADED;
+        return new Result(outcome, sent, last.p99Nanos(), last.successRatio(), failures);
+    }
+
+    // Nanoseconds, negated when the response was not 2xx
+    private long timedGet(HttpClient client, URI uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(properties.requestTimeout()).build();
+        long start = System.nanoTime();
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = 0;
+        }
+        long latency = Math.max(1, System.nanoTime() - start);
+        return status >= 200 && status < 300 ? latency : -latency;
+    }
+
+    private static long awaitLatency(Future<Long> result) throws InterruptedException, IOException {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
+    // Failed requests are left out of the p99: a fast error says nothing about how warm the endpoint is
+    static Round summarize(long[] signedLatencies) {
+        long[] successes = Arrays.stream(signedLatencies).filter(latency -> latency > 0).toArray();
+        int failures = signedLatencies.length - successes.length;
+        long p99 = successes.length == 0 ? 0 : percentile(successes, 0.99);
+        return new Round(p99, (double) successes.length / signedLatencies.length, failures);
+    }
+
+    static long percentile(long[] values, double percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.clamp(index, 0, sorted.length - 1)];
+    }
+
+    /**
+     * Request {@code index} cycles through the templates, moving to the next sample uuid after each
+     * full pass, so repeated calls hit different rows.
+     */
+    static String expand(List<String> templates, Samples samples, int index) {
+        String template = templates.get(index % templates.size());
+        int pass = index / templates.size();
+        if (template.contains(ORDER_UUID)) {
+            template = template.replace(ORDER_UUID, samples.orderUuids().get(pass % samples.orderUuids().size()));
+        }
+        if (template.contains(PRODUCT_UUID)) {
+            template = template.replace(PRODUCT_UUID, samples.productUuids().get(pass % samples.productUuids().size()));
+        }
+        return template;
+    }
+
+    record Samples(List<String> orderUuids, List<String> productUuids) {
+
+        boolean covers(String template) {
+            return (!template.contains(ORDER_UUID) || !orderUuids.isEmpty())
+                    && (!template.contains(PRODUCT_UUID) || !productUuids.isEmpty());
+        }
+    }
+
+    // uuids from the first page of orders, to fill the path templates
+    private Samples sample(HttpClient client, URI baseUrl) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/api/v1/orders?limit=50"))
+                .timeout(properties.requestTimeout())
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        List<String> orderUuids = new ArrayList<>();
+        List<String> productUuids = new ArrayList<>();
+        if (response.statusCode() == 200) {
+            for (JsonNode order : objectMapper.readTree(response.body()).path("items")) {
+                orderUuids.add(order.path("uuid").asString());
+                String productUuid = order.path("product").path("uuid").asString("");
+                if (!productUuid.isEmpty() && !productUuids.contains(productUuid)) {
+                    productUuids.add(productUuid);
+                }
+            }
+        }
+        return new Samples(orderUuids, productUuids);
+    }
+}
@@ -1,21 +1,119 @@
 package com.pesexpo.orderservice.repository;
 
 import com.pesexpo.orderservice.domain.Order;
+import com.pesexpo.orderservice.domain.OrderStatus;
+import com.pesexpo.orderservice.domain.dto.DailyTotals;
+import com.pesexpo.orderservice.domain.dto.ProductSales;
+import com.pesexpo.orderservice.domain.dto.StatusCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
+// Queries run read-only (on a replica when routing is enabled) unless they join a read-write transaction
 @Repository
+@Transactional(readOnly = true)
 public interface OrderRepository extends JpaRepository<Order, Integer> {
 
     Optional<Order> findByUuid(String uuid);
 
-    List<Order> findByProductUuid(String productUuid);
+    // Keyset page: range scan on the primary key instead of an OFFSET scan
+    List<Order> findByIdGreaterThanOrderByIdAsc(Integer id, Limit limit);
 
-    void deleteByUuid(String uuid);
+    // Orders created before the product snapshot columns existed
+    List<Order> findByUnitPriceIsNullAndIdGreaterThanOrderByIdAsc(Integer id, Limit limit);
 
-    boolean existsByUuid(String uuid);
+    // Served by idx_orders_product_uuid_order_date
+    List<Order> findByProductUuidOrderByOrderDateDesc(String productUuid);
+
+    // Oldest first, served by the partial order_date index of the status
+    List<Order> findByStatusOrderByOrderDateAsc(OrderStatus status, Limit limit);
+
+    // Server-side cursor: rows are pulled in fetch-size batches, must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o from Order o order by o.id")
+    Stream<Order> streamAll();
+
+    // Aggregates over [from, to), computed in the database from idx_orders_order_date_totals without loading entities
+
+    @Query("""
+            select new com.pesexpo.orderservice.domain.dto.ProductSales(o.productUuid, count(o), sum(o.quantity), sum(o.totalPrice))
+            from Order o
+            where o.orderDate >= :from and o.orderDate < :to
+            group by o.productUuid
+            order by sum(o.totalPrice) desc
+            """)
+    List<ProductSales> sumSalesByProduct(LocalDateTime from, LocalDateTime to, Limit limit);
+
+    @Query("""
+            select new com.pesexpo.orderservice.domain.dto.StatusCount(o.status, count(o))
+            from Order o
+            where o.orderDate >= :from and o.orderDate < :to
+            group by o.status
+            order by o.status
+            """)
+    List<StatusCount> countByStatus(LocalDateTime from, LocalDateTime to);
+
+    @Query("""
+            select new com.pesexpo.orderservice.domain.dto.DailyTotals(cast(o.orderDate as LocalDate), count(o), sum(o.quantity), sum(o.totalPrice))
+            from Order o
+            where o.orderDate >= :from and o.orderDate < :to
+            group by cast(o.orderDate as LocalDate)
+            order by cast(o.orderDate as LocalDate)
+            """)
+    List<DailyTotals> sumByDay(LocalDateTime from, LocalDateTime to);
+
+    // Product snapshot of legacy orders, set without loading them; rows deleted or filled in the meantime are skipped
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update orders set
+                unit_price = round(total_price / quantity, 2),
+                product_name = :productName
+            where unit_price is null and id in (:ids)
+            """, nativeQuery = true)
+    int fillSnapshot(String productName, List<Integer> ids);
+
+    // One statement: locks the order, takes it out of its product's stats and deletes it, returning
+    // the number of orders deleted. All parts share one snapshot, so the latest-order recomputation
+    // has to exclude the order being deleted itself.
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            with target as (
+                select id, product_uuid, quantity, total_price, order_date
+                from orders
+                where uuid = :uuid
+                for update
+            ), stats as (
+                update product_order_stats s set
+                    order_count = s.order_count - 1,
+                    total_quantity = s.total_quantity - t.quantity,
+                    total_revenue = s.total_revenue - t.total_price,
+                    last_order_date = case
+                        when s.last_order_date = t.order_date
+                            then (select max(o.order_date) from orders o where o.product_uuid = t.product_uuid and o.id <> t.id)
+                        else s.last_order_date
+                    end
+                from target t
+                where s.product_uuid = t.product_uuid
+            )
+            delete from orders o using target t where o.id = t.id
+            """, nativeQuery = true)
+    int deleteByUuidUpdatingStats(UUID uuid);
 
 }
@@ -0,0 +1,33 @@
+package com.pesexpo.orderservice.repository;
+
+import com.pesexpo.orderservice.domain.ProductOrderStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Stats rows are only changed by single-statement increments, so concurrent orders for the same
+ * product serialize on the row for one statement instead of losing updates in read-modify-write.
+ * Deleting an order updates its stats row in the same statement, see
+ * {@link OrderRepository#deleteByUuidUpdatingStats}.
+ */
+@Repository
+public interface ProductOrderStatsRepository extends JpaRepository<ProductOrderStats, String> {
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into product_order_stats as s (product_uuid, order_count, total_quantity, total_revenue, last_order_date)
+            values (:productUuid, :orderCount, :quantity, :revenue, :orderDate)
+            on conflict (product_uuid) do update set
+                order_count = s.order_count + excluded.order_count,
+                total_quantity = s.total_quantity + excluded.total_quantity,
+                total_revenue = s.total_revenue + excluded.total_revenue,
+                last_order_date = greatest(s.last_order_date, excluded.last_order_date)
+            """, nativeQuery = true)
+    void addOrders(String productUuid, long orderCount, long quantity, BigDecimal revenue, LocalDateTime orderDate);
+
+}
@@ -0,0 +1,18 @@
+package com.pesexpo.orderservice.service;
+
+import com.pesexpo.orderservice.domain.dto.DailyTotals;
+import com.pesexpo.orderservice.domain.dto.ProductSales;
+import com.pesexpo.orderservice.domain.dto.StatusCount;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface OrderAnalyticsService {
+
+    List<ProductSales> salesByProduct(LocalDate from, LocalDate to, int limit);
+
+    List<StatusCount> countsByStatus(LocalDate from, LocalDate to);
+
+    List<DailyTotals> dailyTotals(LocalDate from, LocalDate to);
+
+}
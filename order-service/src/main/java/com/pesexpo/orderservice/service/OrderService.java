@@ -1,20 +1,34 @@
 package com.pesexpo.orderservice.service;
 
+import com.pesexpo.orderservice.domain.OrderStatus;
+import com.pesexpo.orderservice.domain.dto.BatchItemResult;
 import com.pesexpo.orderservice.domain.dto.CreateOrder;
+import com.pesexpo.orderservice.domain.dto.CursorPage;
+import com.pesexpo.orderservice.domain.dto.ProductOrderStatsResponse;
 import com.pesexpo.orderservice.domain.dto.ResponseOrder;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface OrderService {
 
     void createOrder(CreateOrder createOrder);
 
-    List<ResponseOrder> findAll();
+    List<BatchItemResult> createOrders(List<CreateOrder> createOrders);
 
-    ResponseOrder findByUuid(String uuid);
+    CursorPage<ResponseOrder> findAll(String cursor, int limit, boolean enrich);
 
-    List<ResponseOrder> findByProductUuid(String productUuid);
+    ResponseOrder findByUuid(String uuid, boolean enrich);
+
+    List<ResponseOrder> findByProductUuid(String productUuid, boolean enrich);
+
+    List<ResponseOrder> findByStatus(OrderStatus status, int limit, boolean enrich);
 
     void deleteOrder(String uuid);
 
+    ProductOrderStatsResponse findStatsByProductUuid(String productUuid);
+
+    void exportOrders(OutputStream outputStream) throws IOException;
+
 }
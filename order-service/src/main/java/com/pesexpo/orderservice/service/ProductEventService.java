@@ -0,0 +1,14 @@
+package com.pesexpo.orderservice.service;
+
+import com.pesexpo.orderservice.client.dto.ProductChangeEvent;
+import com.pesexpo.orderservice.domain.dto.EventOffset;
+
+import java.util.List;
+
+public interface ProductEventService {
+
+    EventOffset apply(List<ProductChangeEvent> events);
+
+    EventOffset currentOffset();
+
+}
@@ -0,0 +1,63 @@
+package com.pesexpo.orderservice.service.impl;
+
+import com.pesexpo.orderservice.domain.dto.DailyTotals;
+import com.pesexpo.orderservice.domain.dto.ProductSales;
+import com.pesexpo.orderservice.domain.dto.StatusCount;
+import com.pesexpo.orderservice.repository.OrderRepository;
+import com.pesexpo.orderservice.service.OrderAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class OrderAnalyticsServiceImpl implements OrderAnalyticsService {
+
+    // Bounds the rows one aggregate scans
+    static final int MAX_RANGE_DAYS = 366;
+
+    private final OrderRepository orderRepository;
+
+    @Override
+    public List<ProductSales> salesByProduct(LocalDate from, LocalDate to, int limit) {
+        checkRange(from, to);
+        return orderRepository.sumSalesByProduct(startOf(from), endOf(to), Limit.of(Cursors.clampLimit(limit)));
+    }
+
+    @Override
+    public List<StatusCount> countsByStatus(LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return orderRepository.countByStatus(startOf(from), endOf(to));
+    }
+
+    @Override
+    public List<DailyTotals> dailyTotals(LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return orderRepository.sumByDay(startOf(from), endOf(to));
+    }
+
+    private static void checkRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+    }
+
+    private static LocalDateTime startOf(LocalDate from) {
+        return from.atStartOfDay();
+    }
+
+    // to is inclusive, the query bound is exclusive
+    private static LocalDateTime endOf(LocalDate to) {
+        return to.plusDays(1).atStartOfDay();
+    }
+}
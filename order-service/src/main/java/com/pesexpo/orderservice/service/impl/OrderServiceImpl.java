@@ -1,81 +1,264 @@
 package com.pesexpo.orderservice.service.impl;
 
 import com.pesexpo.orderservice.client.ProductClient;
+import com.pesexpo.orderservice.client.dto.ProductBatchRequest;
 import com.pesexpo.orderservice.client.dto.ProductResponse;
 import com.pesexpo.orderservice.domain.Order;
+import com.pesexpo.orderservice.domain.ProductOrderStats;
 import com.pesexpo.orderservice.domain.OrderStatus;
+import com.pesexpo.orderservice.domain.Uuids;
+import com.pesexpo.orderservice.domain.dto.BatchItemResult;
 import com.pesexpo.orderservice.domain.dto.CreateOrder;
+import com.pesexpo.orderservice.domain.dto.CursorPage;
+import com.pesexpo.orderservice.domain.dto.ProductOrderStatsResponse;
 import com.pesexpo.orderservice.domain.dto.ResponseOrder;
 import com.pesexpo.orderservice.repository.OrderRepository;
+import com.pesexpo.orderservice.repository.ProductOrderStatsRepository;
 import com.pesexpo.orderservice.service.OrderService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
+    private final ProductOrderStatsRepository statsRepository;
     private final ProductClient productClient;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
 
+    // Must not exceed the max batch size accepted by product-service
+    private static final int PRODUCT_BATCH_SIZE = 500;
+    private static final int EXPORT_CHUNK_SIZE = 1000;
+
+    // Products are resolved before the transaction starts, so no connection is held during the HTTP call
     @Override
     public void createOrder(CreateOrder createOrder) {
         // Fetch product from product-service using HTTP Service Client
         ProductResponse product = productClient.findProductByUuid(createOrder.productUuid());
 
+        Order order = newOrder(createOrder, product, LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.save(order);
+            statsRepository.addOrders(order.getProductUuid(), 1, order.getQuantity(), order.getTotalPrice(), order.getOrderDate());
+        });
+    }
+
+    @Override
+    public List<BatchItemResult> createOrders(List<CreateOrder> createOrders) {
+        // Prices are resolved once per distinct product
+        Map<String, ProductResponse> products = findProducts(createOrders.stream()
+                .map(CreateOrder::productUuid)
+                .distinct()
+                .toList());
+
+        LocalDateTime orderDate = LocalDateTime.now();
+        List<Order> orders = new ArrayList<>(createOrders.size());
+        List<BatchItemResult> results = new ArrayList<>(createOrders.size());
+        for (int index = 0; index < createOrders.size(); index++) {
+            CreateOrder createOrder = createOrders.get(index);
+            ProductResponse product = products.get(createOrder.productUuid());
+            if (product == null) {
+                results.add(BatchItemResult.failed(index, "Product not found"));
+                continue;
+            }
+            Order order = newOrder(createOrder, product, orderDate);
+            orders.add(order);
+            results.add(BatchItemResult.created(index, order.getUuid()));
+        }
+
+        // Flushed as JDBC batches (hibernate.jdbc.batch_size) with pooled sequence ids
+        transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.saveAll(orders);
+            addToStats(orders);
+        });
+        return results;
+    }
+
+    // One upsert per product, in uuid order so concurrent batches lock stats rows in the same order
+    private void addToStats(List<Order> orders) {
+        Map<String, ProductOrderStats> totals = new TreeMap<>();
+        for (Order order : orders) {
+            ProductOrderStats stats = totals.computeIfAbsent(order.getProductUuid(),
+                    productUuid -> new ProductOrderStats(productUuid, 0L, 0L, BigDecimal.ZERO, order.getOrderDate()));
+            stats.setOrderCount(stats.getOrderCount() + 1);
+            stats.setTotalQuantity(stats.getTotalQuantity() + order.getQuantity());
+            stats.setTotalRevenue(stats.getTotalRevenue().add(order.getTotalPrice()));
+        }
+        totals.values().forEach(stats -> statsRepository.addOrders(stats.getProductUuid(), stats.getOrderCount(),
+                stats.getTotalQuantity(), stats.getTotalRevenue(), stats.getLastOrderDate()));
+    }
+
+    private static Order newOrder(CreateOrder createOrder, ProductResponse product, LocalDateTime orderDate) {
         Order order = new Order();
-        order.setUuid(UUID.randomUUID().toString());
+        order.setUuid(Uuids.timeOrdered().toString());
         order.setProductUuid(createOrder.productUuid());
+        order.setProductName(product.productName());
+        order.setUnitPrice(product.price());
         order.setQuantity(createOrder.quantity());
-        order.setTotalPrice(product.price().multiply(java.math.BigDecimal.valueOf(createOrder.quantity())));
-        order.setOrderDate(LocalDateTime.now());
+        order.setTotalPrice(product.price().multiply(BigDecimal.valueOf(createOrder.quantity())));
+        order.setOrderDate(orderDate);
         order.setStatus(OrderStatus.PENDING);
-
-        orderRepository.save(order);
+        return order;
     }
 
     @Override
-    public List<ResponseOrder> findAll() {
-        return orderRepository.findAll().stream()
-                .map(this::mapToResponseOrder)
-                .toList();
+    public CursorPage<ResponseOrder> findAll(String cursor, int limit, boolean enrich) {
+        int pageSize = Cursors.clampLimit(limit);
+
+        // Fetch one extra row to know whether another page follows
+        List<Order> orders = orderRepository.findByIdGreaterThanOrderByIdAsc(Cursors.decode(cursor), Limit.of(pageSize + 1));
+        boolean hasNext = orders.size() > pageSize;
+        List<Order> page = hasNext ? orders.subList(0, pageSize) : orders;
+
+        String nextCursor = hasNext ? Cursors.encode(page.get(page.size() - 1).getId()) : null;
+        return new CursorPage<>(mapToResponseOrders(page, enrich), nextCursor);
     }
 
     @Override
-    public ResponseOrder findByUuid(String uuid) {
+    public ResponseOrder findByUuid(String uuid, boolean enrich) {
         Order order = orderRepository.findByUuid(uuid)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Order not found"));
 
-        return mapToResponseOrder(order);
+        if (!needsLiveProduct(order, enrich)) {
+            return mapToResponseOrder(order, snapshotOf(order));
+        }
+        // Fetch product details from product-service
+        return mapToResponseOrder(order, productClient.findProductByUuid(order.getProductUuid()));
     }
 
     @Override
-    public List<ResponseOrder> findByProductUuid(String productUuid) {
-        return orderRepository.findByProductUuid(productUuid).stream()
-                .map(this::mapToResponseOrder)
+    public List<ResponseOrder> findByProductUuid(String productUuid, boolean enrich) {
+        List<Order> orders = orderRepository.findByProductUuidOrderByOrderDateDesc(productUuid);
+
+        // All orders share the same product, so one lookup is enough
+        ProductResponse liveProduct = orders.stream().anyMatch(order -> needsLiveProduct(order, enrich))
+                ? productClient.findProductByUuid(productUuid)
+                : null;
+
+        return orders.stream()
+                .map(order -> mapToResponseOrder(order, needsLiveProduct(order, enrich) ? liveProduct : snapshotOf(order)))
                 .toList();
     }
 
+    @Override
+    public List<ResponseOrder> findByStatus(OrderStatus status, int limit, boolean enrich) {
+        List<Order> orders = orderRepository.findByStatusOrderByOrderDateAsc(status, Limit.of(Cursors.clampLimit(limit)));
+        return mapToResponseOrders(orders, enrich);
+    }
+
     @Override
     @Transactional
     public void deleteOrder(String uuid) {
-        if (!orderRepository.existsByUuid(uuid)) {
+        UUID orderUuid = Uuids.parseOrNull(uuid);
+        if (orderUuid == null || orderRepository.deleteByUuidUpdatingStats(orderUuid) == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Order not found");
         }
-        orderRepository.deleteByUuid(uuid);
     }
 
-    private ResponseOrder mapToResponseOrder(Order order) {
-        // Fetch product details from product-service
-        ProductResponse product = productClient.findProductByUuid(order.getProductUuid());
+    @Override
+    public ProductOrderStatsResponse findStatsByProductUuid(String productUuid) {
+        return statsRepository.findById(productUuid)
+                .map(stats -> ProductOrderStatsResponse.builder()
+                        .productUuid(productUuid)
+                        .orderCount(stats.getOrderCount())
+                        .totalQuantity(stats.getTotalQuantity())
+                        .totalRevenue(stats.getTotalRevenue())
+                        .lastOrderDate(stats.getLastOrderDate())
+                        .build())
+                // No orders yet
+                .orElseGet(() -> ProductOrderStatsResponse.builder()
+                        .productUuid(productUuid)
+                        .totalRevenue(BigDecimal.ZERO)
+                        .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportOrders(OutputStream outputStream) throws IOException {
+        try (Stream<Order> orders = orderRepository.streamAll()) {
+            List<Order> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                    writeNdjson(mapToResponseOrders(chunk, false), outputStream);
+                    chunk.clear();
+                    // Drop exported rows from the persistence context to keep memory flat
+                    entityManager.clear();
+                }
+            }
+        }
+        outputStream.flush();
+    }
+
+    private void writeNdjson(List<ResponseOrder> responseOrders, OutputStream outputStream) throws IOException {
+        for (ResponseOrder responseOrder : responseOrders) {
+            outputStream.write(objectMapper.writeValueAsBytes(responseOrder));
+            outputStream.write('\n');
+        }
+    }
+
+    private List<ResponseOrder> mapToResponseOrders(List<Order> orders, boolean enrich) {
+        Map<String, ProductResponse> liveProducts = findProducts(orders.stream()
+                .filter(order -> needsLiveProduct(order, enrich))
+                .map(Order::getProductUuid)
+                .distinct()
+                .toList());
+
+        // Products deleted since the order was placed are reported as null
+        return orders.stream()
+                .map(order -> mapToResponseOrder(order, needsLiveProduct(order, enrich)
+                        ? liveProducts.get(order.getProductUuid())
+                        : snapshotOf(order)))
+                .toList();
+    }
+
+    /**
+     * Live product data is only fetched when asked for, or for rows without a snapshot yet.
+     */
+    private static boolean needsLiveProduct(Order order, boolean enrich) {
+        return enrich || order.getUnitPrice() == null;
+    }
+
+    private static ProductResponse snapshotOf(Order order) {
+        return new ProductResponse(order.getProductUuid(), order.getProductName(), order.getUnitPrice());
+    }
+
+    private Map<String, ProductResponse> findProducts(List<String> productUuids) {
+        Map<String, ProductResponse> products = new HashMap<>();
+        for (int from = 0; from < productUuids.size(); from += PRODUCT_BATCH_SIZE) {
+            List<String> chunk = productUuids.subList(from, Math.min(from + PRODUCT_BATCH_SIZE, productUuids.size()));
+            for (ProductResponse product : productClient.findProductsByUuids(new ProductBatchRequest(chunk))) {
+                products.put(product.uuid(), product);
+            }
+        }
+        return products;
+    }
 
+    private ResponseOrder mapToResponseOrder(Order order, ProductResponse product) {
         return ResponseOrder.builder()
                 .uuid(order.getUuid())
                 .product(product)
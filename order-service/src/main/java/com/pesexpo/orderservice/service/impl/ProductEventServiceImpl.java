@@ -0,0 +1,66 @@
+package com.pesexpo.orderservice.service.impl;
+
+import com.pesexpo.orderservice.client.CachingProductClient;
+import com.pesexpo.orderservice.client.ProductSnapshots;
+import com.pesexpo.orderservice.client.dto.ProductChangeEvent;
+import com.pesexpo.orderservice.domain.dto.EventOffset;
+import com.pesexpo.orderservice.service.ProductEventService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Applies product change events from product-service's outbox to this instance's product cache
+ * and snapshots.
+ * <p>
+ * Sequence numbers are gap-free, so anything at or below the offset is a redelivery and a jump
+ * past offset + 1 means events were lost; the whole cache is then dropped rather than trusting
+ * entries those events would have evicted. The offset lives in memory, like the caches it guards:
+ * both start empty, so the first event applied after a restart sets the baseline.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductEventServiceImpl implements ProductEventService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductEventServiceImpl.class);
+    private static final long NO_OFFSET = -1;
+
+    private final CachingProductClient productClient;
+    private final ProductSnapshots productSnapshots;
+
+    private long lastSequenceNumber = NO_OFFSET;
+
+    @Override
+    public synchronized EventOffset apply(List<ProductChangeEvent> events) {
+        List<ProductChangeEvent> sorted = events.stream()
+                .sorted(Comparator.comparingLong(ProductChangeEvent::sequenceNumber))
+                .toList();
+        for (ProductChangeEvent event : sorted) {
+            if (event.sequenceNumber() <= lastSequenceNumber) {
+                continue;
+            }
+            if (lastSequenceNumber != NO_OFFSET && event.sequenceNumber() > lastSequenceNumber + 1) {
+                log.warn("Product events {}..{} missing, invalidating the product cache",
+                        lastSequenceNumber + 1, event.sequenceNumber() - 1);
+                productClient.invalidateAll();
+                productSnapshots.invalidateAll();
+            }
+            // Evict rather than store the payload: the next read loads the current state, whatever order changes raced in
+            productClient.invalidate(event.productUuid());
+            // A snapshot would otherwise keep serving the old name and price, or a deleted product, while
+            // product-service is down; the next successful read records the current state again
+            productSnapshots.invalidate(event.productUuid());
+            lastSequenceNumber = event.sequenceNumber();
+        }
+        return currentOffset();
+    }
+
+    @Override
+    public synchronized EventOffset currentOffset() {
+        return new EventOffset(Math.max(lastSequenceNumber, 0));
+    }
+}
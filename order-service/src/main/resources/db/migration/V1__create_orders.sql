@@ -0,0 +1,34 @@
+-- Baseline orders schema. Written to be re-runnable over databases that ddl-auto created before
+-- migrations existed (adopted at baseline version 0).
+
+-- Pooled id sequence (allocationSize = 50); an existing identity-backing sequence is reused
+CREATE SEQUENCE IF NOT EXISTS orders_id_seq INCREMENT BY 50;
+ALTER SEQUENCE orders_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS orders (
+    id           integer        NOT NULL PRIMARY KEY,
+    uuid         uuid           NOT NULL UNIQUE,
+    product_uuid varchar(255)   NOT NULL,
+    product_name varchar(100),
+    unit_price   numeric(38, 2),
+    quantity     integer        NOT NULL,
+    total_price  numeric(38, 2) NOT NULL,
+    order_date   timestamp(6)   NOT NULL,
+    status       varchar(255)   NOT NULL
+        CHECK (status IN ('PENDING', 'CONFIRMED', 'SHIPPED', 'DELIVERED', 'CANCELLED'))
+);
+
+-- Product snapshot columns, missing on databases created before orders carried them
+ALTER TABLE orders
+    ADD COLUMN IF NOT EXISTS product_name varchar(100),
+    ADD COLUMN IF NOT EXISTS unit_price numeric(38, 2);
+
+-- uuid used to be varchar; existing v4 strings convert in place
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+               FROM information_schema.columns
+               WHERE table_name = 'orders' AND column_name = 'uuid' AND data_type <> 'uuid') THEN
+        ALTER TABLE orders ALTER COLUMN uuid TYPE uuid USING uuid::uuid;
+    END IF;
+END $$;
@@ -0,0 +1,18 @@
+-- Indexes for the OrderRepository queries; uuid lookups use the unique constraint and keyset
+-- pages the primary key.
+
+-- findByProductUuidOrderByOrderDateDesc. The leading column also serves plain product_uuid
+-- lookups, so there is no separate single-column index.
+CREATE INDEX IF NOT EXISTS idx_orders_product_uuid_order_date ON orders (product_uuid, order_date DESC);
+
+-- findByStatusOrderByOrderDateAsc: one partial index per status. Together they are the size of
+-- a single order_date index, but each lookup walks only the rows in its own status.
+CREATE INDEX IF NOT EXISTS idx_orders_pending_order_date ON orders (order_date) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_orders_confirmed_order_date ON orders (order_date) WHERE status = 'CONFIRMED';
+CREATE INDEX IF NOT EXISTS idx_orders_shipped_order_date ON orders (order_date) WHERE status = 'SHIPPED';
+CREATE INDEX IF NOT EXISTS idx_orders_delivered_order_date ON orders (order_date) WHERE status = 'DELIVERED';
+CREATE INDEX IF NOT EXISTS idx_orders_cancelled_order_date ON orders (order_date) WHERE status = 'CANCELLED';
+
+-- findByUnitPriceIsNullAndIdGreaterThanOrderByIdAsc: the snapshot backfill only visits legacy
+-- rows, and the index empties out as it progresses.
+CREATE INDEX IF NOT EXISTS idx_orders_missing_snapshot ON orders (id) WHERE unit_price IS NULL;
@@ -0,0 +1,10 @@
+-- Offsets of the event feeds order-service consumes
+CREATE TABLE IF NOT EXISTS consumer_offsets (
+    consumer             varchar(100) NOT NULL PRIMARY KEY,
+    last_sequence_number bigint       NOT NULL,
+    updated_at           timestamp(6) NOT NULL
+);
+
+INSERT INTO consumer_offsets (consumer, last_sequence_number, updated_at)
+VALUES ('product-events', 0, now())
+ON CONFLICT (consumer) DO NOTHING;
@@ -0,0 +1,5 @@
+-- Covering index for the OrderRepository aggregates (sumSalesByProduct, countByStatus, sumByDay).
+-- The date range is an index range scan and every aggregated column is in the index, so on a
+-- vacuumed table the heap is not read at all.
+CREATE INDEX IF NOT EXISTS idx_orders_order_date_totals
+    ON orders (order_date) INCLUDE (product_uuid, status, quantity, total_price);
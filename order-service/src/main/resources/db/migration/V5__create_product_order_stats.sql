@@ -0,0 +1,15 @@
+-- Per-product running totals, maintained incrementally by order create/delete
+CREATE TABLE IF NOT EXISTS product_order_stats (
+    product_uuid    varchar(255)   NOT NULL PRIMARY KEY,
+    order_count     bigint         NOT NULL,
+    total_quantity  bigint         NOT NULL,
+    total_revenue   numeric(38, 2) NOT NULL,
+    last_order_date timestamp(6)
+);
+
+-- Seed from the orders placed so far
+INSERT INTO product_order_stats (product_uuid, order_count, total_quantity, total_revenue, last_order_date)
+SELECT product_uuid, count(*), sum(quantity), sum(total_price), max(order_date)
+FROM orders
+GROUP BY product_uuid
+ON CONFLICT (product_uuid) DO NOTHING;
@@ -0,0 +1,2 @@
+-- The product event offset is kept in memory per instance, next to the caches it guards
+DROP TABLE IF EXISTS consumer_offsets;
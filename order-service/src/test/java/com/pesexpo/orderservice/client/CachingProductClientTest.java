@@ -0,0 +1,175 @@
+package com.pesexpo.orderservice.client;
+
+import com.pesexpo.orderservice.client.dto.ProductBatchRequest;
+import com.pesexpo.orderservice.client.dto.ProductResponse;
+import com.pesexpo.orderservice.config.ProductCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingProductClientTest {
+
+    @Mock
+    private ProductClient delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductSnapshots productSnapshots;
+    private CachingProductClient productClient;
+
+    private final ProductResponse product1 = new ProductResponse("prod-1", "Widget", new BigDecimal("9.99"));
+    private final ProductResponse product2 = new ProductResponse("prod-2", "Gadget", new BigDecimal("19.99"));
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productSnapshots = new ProductSnapshots(100);
+        ProductCacheProperties properties = new ProductCacheProperties(100, Duration.ofMinutes(10), Duration.ofMinutes(1), 100);
+        productClient = new CachingProductClient(delegate, productSnapshots, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should load a product once and serve repeats from cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        when(delegate.findProductByUuidIfNoneMatch("prod-1", null)).thenReturn(withEtag(product1, "\"1\""));
+
+        assertThat(productClient.findProductByUuid("prod-1")).isEqualTo(product1);
+        assertThat(productClient.findProductByUuid("prod-1")).isEqualTo(product1);
+
+        verify(delegate, times(1)).findProductByUuidIfNoneMatch("prod-1", null);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reload a product after invalidation")
+    void shouldReloadAfterInvalidation() {
+        when(delegate.findProductByUuidIfNoneMatch("prod-1", null)).thenReturn(withEtag(product1, "\"1\""));
+
+        productClient.findProductByUuid("prod-1");
+        productClient.invalidate("prod-1");
+        productClient.findProductByUuid("prod-1");
+
+        verify(delegate, times(2)).findProductByUuidIfNoneMatch("prod-1", null);
+    }
+
+    @Test
+    @DisplayName("Should batch-load only the uuids missing from cache")
+    void shouldBatchLoadOnlyMissingUuids() {
+        when(delegate.findProductByUuidIfNoneMatch("prod-1", null)).thenReturn(withEtag(product1, "\"1\""));
+        when(delegate.findProductsByUuids(any(ProductBatchRequest.class))).thenReturn(List.of(product2));
+        productClient.findProductByUuid("prod-1");
+
+        List<ProductResponse> result = productClient.findProductsByUuids(
+                new ProductBatchRequest(List.of("prod-1", "prod-2", "missing")));
+
+        ArgumentCaptor<ProductBatchRequest> requestCaptor = ArgumentCaptor.forClass(ProductBatchRequest.class);
+        verify(delegate).findProductsByUuids(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().uuids()).containsExactlyInAnyOrder("prod-2", "missing");
+        assertThat(result).containsExactlyInAnyOrder(product1, product2);
+    }
+
+    @Test
+    @DisplayName("Should revalidate a stale entry with its ETag and keep it on 304")
+    void shouldKeepEntryWhenNotModified() {
+        CachingProductClient refreshingClient = refreshingClient();
+        when(delegate.findProductByUuidIfNoneMatch("prod-1", null)).thenReturn(withEtag(product1, "\"1\""));
+        when(delegate.findProductByUuidIfNoneMatch("prod-1", "\"1\""))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("\"1\"").build());
+
+        refreshingClient.findProductByUuid("prod-1");
+        // Stale read: served from cache while the revalidation runs in the background
+        assertThat(refreshingClient.findProductByUuid("prod-1")).isEqualTo(product1);
+
+        verify(delegate, timeout(1000)).findProductByUuidIfNoneMatch("prod-1", "\"1\"");
+        await(() -> meterRegistry.get("product.cache.revalidations").tag("result", "not_modified").counter().count() >= 1);
+        assertThat(refreshingClient.findProductByUuid("prod-1")).isEqualTo(product1);
+    }
+
+    @Test
+    @DisplayName("Should replace a stale entry when the product changed")
+    void shouldReplaceEntryWhenModified() {
+        ProductResponse repriced = new ProductResponse("prod-1", "Widget", new BigDecimal("10.99"));
+        CachingProductClient refreshingClient = refreshingClient();
+        when(delegate.findProductByUuidIfNoneMatch("prod-1", null)).thenReturn(withEtag(product1, "\"1\""));
+        when(delegate.findProductByUuidIfNoneMatch("prod-1", "\"1\"")).thenReturn(withEtag(repriced, "\"2\""));
+        lenient().when(delegate.findProductByUuidIfNoneMatch("prod-1", "\"2\""))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("\"2\"").build());
+
+        refreshingClient.findProductByUuid("prod-1");
+        refreshingClient.findProductByUuid("prod-1");
+
+        await(() -> repriced.equals(refreshingClient.findProductByUuid("prod-1")));
+        assertThat(meterRegistry.get("product.cache.revalidations").tag("result", "modified").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep serving the stale entry when revalidation fails")
+    void shouldKeepEntryWhenRevalidationFails() {
+        CachingProductClient refreshingClient = refreshingClient();
+        when(delegate.findProductByUuidIfNoneMatch("prod-1", null)).thenReturn(withEtag(product1, "\"1\""));
+        when(delegate.findProductByUuidIfNoneMatch("prod-1", "\"1\""))
+                .thenThrow(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Product service unavailable"));
+
+        refreshingClient.findProductByUuid("prod-1");
+
+        // The failed refresh leaves the original entry, ETag included, so the next one revalidates again
+        await(() -> {
+            assertThat(refreshingClient.findProductByUuid("prod-1")).isEqualTo(product1);
+            return mockingDetails(delegate).getInvocations().stream()
+                    .filter(invocation -> invocation.getArguments().length == 2 && "\"1\"".equals(invocation.getArgument(1)))
+                    .count() >= 2;
+        });
+        verify(delegate, times(1)).findProductByUuidIfNoneMatch("prod-1", null);
+    }
+
+    @Test
+    @DisplayName("Should answer a miss from the snapshot without caching it while product service is unavailable")
+    void shouldFallBackToSnapshotOnMiss() {
+        productSnapshots.put(product1);
+        when(delegate.findProductByUuidIfNoneMatch("prod-1", null))
+                .thenThrow(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Product service unavailable"))
+                .thenReturn(withEtag(product1, "\"1\""));
+
+        assertThat(productClient.findProductByUuid("prod-1")).isEqualTo(product1);
+        assertThat(productClient.findProductByUuid("prod-1")).isEqualTo(product1);
+
+        verify(delegate, times(2)).findProductByUuidIfNoneMatch("prod-1", null);
+    }
+
+    private CachingProductClient refreshingClient() {
+        // Every read after the first finds the entry due for refresh
+        ProductCacheProperties properties = new ProductCacheProperties(100, Duration.ofMinutes(10), Duration.ofNanos(1), 100);
+        meterRegistry = new SimpleMeterRegistry();
+        return new CachingProductClient(delegate, productSnapshots, properties, meterRegistry);
+    }
+
+    private static ResponseEntity<ProductResponse> withEtag(ProductResponse product, String etag) {
+        return ResponseEntity.ok().eTag(etag).body(product);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 1s").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+}
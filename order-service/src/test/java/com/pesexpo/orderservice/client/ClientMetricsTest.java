@@ -0,0 +1,74 @@
+package com.pesexpo.orderservice.client;
+
+import com.pesexpo.orderservice.client.dto.ProductResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClientMetricsTest {
+
+    @Mock
+    private ProductClient delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductClient productClient;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productClient = ClientMetrics.timed(ProductClient.class, delegate, "product-service", meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should time successful calls per client method")
+    void shouldTimeSuccessfulCalls() {
+        ProductResponse product = new ProductResponse("prod-1", "Widget", new BigDecimal("9.99"));
+        when(delegate.findProductByUuid("prod-1")).thenReturn(product);
+
+        assertThat(productClient.findProductByUuid("prod-1")).isEqualTo(product);
+
+        assertThat(meterRegistry.get(ClientMetrics.TIMER)
+                .tags("client", "product-service", "method", "findProductByUuid", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rethrow failures and time them under the exception name")
+    void shouldTimeFailedCalls() {
+        when(delegate.findProductByUuid("prod-1")).thenThrow(new ResourceAccessException("Connection refused"));
+
+        assertThatThrownBy(() -> productClient.findProductByUuid("prod-1"))
+                .isInstanceOf(ResourceAccessException.class);
+
+        assertThat(meterRegistry.get(ClientMetrics.TIMER)
+                .tags("method", "findProductByUuid", "outcome", "ResourceAccessException")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should record repeated failures of one exception type on a single timer")
+    void shouldReuseFailureTimer() {
+        when(delegate.findProductByUuid("prod-1")).thenThrow(new ResourceAccessException("Connection refused"));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> productClient.findProductByUuid("prod-1"))
+                    .isInstanceOf(ResourceAccessException.class);
+        }
+
+        assertThat(meterRegistry.get(ClientMetrics.TIMER)
+                .tags("method", "findProductByUuid", "outcome", "ResourceAccessException")
+                .timers()).singleElement().satisfies(timer -> assertThat(timer.count()).isEqualTo(2));
+    }
+}
@@ -0,0 +1,132 @@
+package com.pesexpo.orderservice.client;
+
+import com.pesexpo.orderservice.client.dto.ProductBatchRequest;
+import com.pesexpo.orderservice.client.dto.ProductResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientProductClientTest {
+
+    @Mock
+    private ProductClient delegate;
+
+    private CircuitBreaker circuitBreaker;
+    private ResilientProductClient productClient;
+
+    private final ProductResponse product = new ProductResponse("prod-1", "Widget", new BigDecimal("9.99"));
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.of("product-service", CircuitBreakerConfig.custom()
+                .ignoreExceptions(HttpClientErrorException.class)
+                .build());
+        Bulkhead bulkhead = Bulkhead.of("product-service", BulkheadConfig.ofDefaults());
+        productClient = new ResilientProductClient(delegate, circuitBreaker, bulkhead, new ProductSnapshots(100));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the last known product when product service fails")
+    void shouldFallBackToLastKnownProduct() {
+        when(delegate.findProductByUuid("prod-1"))
+                .thenReturn(product)
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        productClient.findProductByUuid("prod-1");
+
+        assertThat(productClient.findProductByUuid("prod-1")).isEqualTo(product);
+    }
+
+    @Test
+    @DisplayName("Should fail a conditional read instead of answering from a snapshot")
+    void shouldNotFallBackOnConditionalRead() {
+        when(delegate.findProductByUuidIfNoneMatch("prod-1", null))
+                .thenReturn(ResponseEntity.ok().eTag("\"1\"").body(product));
+        when(delegate.findProductByUuidIfNoneMatch("prod-1", "\"1\""))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        productClient.findProductByUuidIfNoneMatch("prod-1", null);
+
+        assertThatThrownBy(() -> productClient.findProductByUuidIfNoneMatch("prod-1", "\"1\""))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    @DisplayName("Should fail with service unavailable when no snapshot is known")
+    void shouldFailWhenNoSnapshotKnown() {
+        when(delegate.findProductByUuid("prod-1")).thenThrow(new ResourceAccessException("Connection refused"));
+
+        assertThatThrownBy(() -> productClient.findProductByUuid("prod-1"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    @DisplayName("Should not mask a not found answer with a snapshot")
+    void shouldNotMaskNotFound() {
+        when(delegate.findProductByUuid("prod-1"))
+                .thenReturn(product)
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", new HttpHeaders(), new byte[0], null));
+
+        productClient.findProductByUuid("prod-1");
+
+        assertThatThrownBy(() -> productClient.findProductByUuid("prod-1"))
+                .isInstanceOf(HttpClientErrorException.NotFound.class);
+    }
+
+    @Test
+    @DisplayName("Should fail fast without calling product service while the breaker is open")
+    void shouldFailFastWhenBreakerOpen() {
+        when(delegate.findProductsByUuids(new ProductBatchRequest(List.of("prod-1")))).thenReturn(List.of(product));
+        productClient.findProductsByUuids(new ProductBatchRequest(List.of("prod-1")));
+        circuitBreaker.transitionToOpenState();
+
+        List<ProductResponse> result = productClient.findProductsByUuids(new ProductBatchRequest(List.of("prod-1")));
+
+        assertThat(result).containsExactly(product);
+        verify(delegate, times(1)).findProductsByUuids(any());
+        assertThatThrownBy(() -> productClient.findProductByUuid("prod-2"))
+                .isInstanceOf(ResponseStatusException.class);
+        verify(delegate, never()).findProductByUuid(any());
+    }
+
+    @Test
+    @DisplayName("Should fail with service unavailable instead of falling back when built without snapshots")
+    void shouldNotFallBackWithoutSnapshots() {
+        ResilientProductClient uncachedClient = new ResilientProductClient(delegate, circuitBreaker,
+                Bulkhead.of("product-service", BulkheadConfig.ofDefaults()));
+        ProductBatchRequest request = new ProductBatchRequest(List.of("prod-1"));
+        when(delegate.findProductsByUuids(request))
+                .thenReturn(List.of(product))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        uncachedClient.findProductsByUuids(request);
+
+        assertThatThrownBy(() -> uncachedClient.findProductsByUuids(request))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+}
@@ -0,0 +1,38 @@
+package com.pesexpo.orderservice.config;
+
+import com.pesexpo.orderservice.client.ProductClient;
+import com.pesexpo.orderservice.client.dto.ProductResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    @DisplayName("Should register the product client proxies, methods and DTOs")
+    void shouldRegisterProductClientHints() {
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.proxies()
+                .forInterfaces(AopProxyUtils.completeJdkProxyInterfaces(ProductClient.class))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProductClient.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(ProductClient.class, "findProductByUuid")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ProductResponse.class)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register the counting connection proxy")
+    void shouldRegisterConnectionProxy() {
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class)).accepts(hints);
+    }
+}
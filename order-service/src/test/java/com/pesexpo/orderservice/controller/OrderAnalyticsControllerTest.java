@@ -0,0 +1,63 @@
+package com.pesexpo.orderservice.controller;
+
+import com.pesexpo.orderservice.domain.OrderStatus;
+import com.pesexpo.orderservice.domain.dto.DailyTotals;
+import com.pesexpo.orderservice.domain.dto.StatusCount;
+import com.pesexpo.orderservice.service.OrderAnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OrderAnalyticsController.class)
+class OrderAnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private OrderAnalyticsService orderAnalyticsService;
+
+    @Test
+    void shouldReturnDailyTotals() throws Exception {
+        LocalDate day = LocalDate.of(2024, 1, 15);
+        when(orderAnalyticsService.dailyTotals(day, day))
+                .thenReturn(List.of(new DailyTotals(day, 2L, 5L, new BigDecimal("50.00"))));
+
+        mockMvc.perform(get("/api/v1/orders/analytics/daily").param("from", "2024-01-15").param("to", "2024-01-15"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].day").value("2024-01-15"))
+                .andExpect(jsonPath("$[0].revenue").value(50.00));
+    }
+
+    @Test
+    void shouldReturnCountsByStatus() throws Exception {
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        when(orderAnalyticsService.countsByStatus(from, to))
+                .thenReturn(List.of(new StatusCount(OrderStatus.SHIPPED, 3L)));
+
+        mockMvc.perform(get("/api/v1/orders/analytics/statuses").param("from", "2024-01-01").param("to", "2024-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("SHIPPED"))
+                .andExpect(jsonPath("$[0].orderCount").value(3));
+    }
+
+    @Test
+    void shouldRequireDateRange() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/analytics/products"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -2,6 +2,8 @@ package com.pesexpo.orderservice.controller;
 
 import com.pesexpo.orderservice.client.dto.ProductResponse;
 import com.pesexpo.orderservice.domain.OrderStatus;
+import com.pesexpo.orderservice.domain.dto.BatchItemResult;
+import com.pesexpo.orderservice.domain.dto.CursorPage;
 import com.pesexpo.orderservice.domain.dto.ResponseOrder;
 import com.pesexpo.orderservice.service.OrderService;
 import org.junit.jupiter.api.Test;
@@ -11,19 +13,28 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
@@ -40,7 +51,7 @@ class OrderControllerTest {
 
     @Test
     void shouldCreateOrder() throws Exception {
-        doNothing().when(orderService).createOrder(org.mockito.ArgumentMatchers.any());
+        doNothing().when(orderService).createOrder(any());
 
         mockMvc.perform(post("/api/v1/orders")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -48,7 +59,7 @@ class OrderControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(content().string("Order created successfully"));
 
-        verify(orderService).createOrder(org.mockito.ArgumentMatchers.any());
+        verify(orderService).createOrder(any());
     }
 
     @Test
@@ -69,18 +80,39 @@ class OrderControllerTest {
                 .orderDate(LocalDateTime.of(2024, 1, 1, 10, 0))
                 .status(OrderStatus.PENDING)
                 .build();
-        when(orderService.findAll()).thenReturn(List.of(response));
+        when(orderService.findAll(null, 50, false)).thenReturn(new CursorPage<>(List.of(response), "next"));
 
         mockMvc.perform(get("/api/v1/orders"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].uuid").value("order-1"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void shouldReturnOrdersByStatus() throws Exception {
+        ResponseOrder response = ResponseOrder.builder()
+                .uuid("order-1")
+                .status(OrderStatus.SHIPPED)
+                .build();
+        when(orderService.findByStatus(OrderStatus.SHIPPED, 20, false)).thenReturn(List.of(response));
+
+        mockMvc.perform(get("/api/v1/orders/status/{status}", "SHIPPED").param("limit", "20"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].uuid").value("order-1"));
+                .andExpect(jsonPath("$[0].status").value("SHIPPED"));
+    }
+
+    @Test
+    void shouldRejectUnknownStatus() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/status/{status}", "LOST"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
     void shouldReturnNotFoundForMissingOrder() throws Exception {
         doThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Order not found"))
-                .when(orderService).findByUuid("missing");
+                .when(orderService).findByUuid("missing", false);
 
         mockMvc.perform(get("/api/v1/orders/{uuid}", "missing"))
                 .andExpect(status().isNotFound());
@@ -96,4 +128,44 @@ class OrderControllerTest {
 
         verify(orderService).deleteOrder("order-1");
     }
+
+    @Test
+    void shouldStreamOrderExportAsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write("{\"uuid\":\"order-1\"}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(orderService).exportOrders(any());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(content().string("{\"uuid\":\"order-1\"}\n"));
+    }
+
+    @Test
+    void shouldCreateOrdersInBulk() throws Exception {
+        when(orderService.createOrders(anyList()))
+                .thenReturn(List.of(BatchItemResult.created(0, "order-1"), BatchItemResult.failed(1, "Product not found")));
+
+        mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orders\":[{\"productUuid\":\"prod-1\",\"quantity\":1},{\"productUuid\":\"prod-2\",\"quantity\":2}]}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].created").value(true))
+                .andExpect(jsonPath("$[1].error").value("Product not found"));
+    }
+
+    @Test
+    void shouldRejectInvalidItemInBulkCreate() throws Exception {
+        mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orders\":[{\"productUuid\":\"prod-1\",\"quantity\":0}]}"))
+                .andExpect(status().isBadRequest());
+    }
 }
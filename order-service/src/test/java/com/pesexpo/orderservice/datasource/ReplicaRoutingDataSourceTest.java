@@ -0,0 +1,134 @@
+package com.pesexpo.orderservice.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", mock(DataSource.class));
+        replicas.put("replica-2", mock(DataSource.class));
+        routing = new ReplicaRoutingDataSource(mock(DataSource.class), replicas, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("Should stay on the primary until a replica passed a health check")
+    void shouldUsePrimaryBeforeFirstCheck() {
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("Should alternate between healthy replicas")
+    void shouldRoundRobinHealthyReplicas() {
+        routing.recordCheck("replica-1", 0.0);
+        routing.recordCheck("replica-2", 1.0);
+
+        assertThat(Stream.generate(routing::determineCurrentLookupKey).limit(4))
+                .containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+    }
+
+    @Test
+    @DisplayName("Should skip replicas that lag too far or are unreachable")
+    void shouldSkipLaggingAndUnreachableReplicas() {
+        routing.recordCheck("replica-1", 30.0);
+        routing.recordCheck("replica-2", 0.0);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-2");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-2");
+
+        routing.recordCheck("replica-2", null);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(meterRegistry.get("datasource.routing.replica.lag").tag("target", "replica-1").gauge().value())
+                .isEqualTo(30.0);
+    }
+
+    @Test
+    @DisplayName("Should keep a request on the primary after it opened a read-write transaction")
+    void shouldPinRequestToPrimaryAfterWrite() throws Exception {
+        routing.recordCheck("replica-1", 0.0);
+        routing.recordCheck("replica-2", 0.0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+        DataSource primary = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        new ReadYourWritesDataSource(primary, Duration.ofSeconds(10)).getConnection();
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        Cookie cookie = response.getCookie(ReadYourWritesDataSource.PRIMARY_UNTIL_COOKIE);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getMaxAge()).isEqualTo(10);
+        assertThat(Long.parseLong(cookie.getValue())).isGreaterThan(System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("Should keep a client on the primary until its primary-until cookie expires")
+    void shouldPinClientToPrimaryWithinWindow() {
+        routing.recordCheck("replica-1", 0.0);
+        routing.recordCheck("replica-2", 0.0);
+
+        assertThat(lookupKeyWithPrimaryUntil(System.currentTimeMillis() + 10_000))
+                .isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(lookupKeyWithPrimaryUntil(System.currentTimeMillis() - 1))
+                .isNotEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("Should count statements per target")
+    void shouldCountStatements() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select 1")).thenReturn(mock(PreparedStatement.class));
+
+        Connection counted = new CountingDataSource(pool, "replica-1", meterRegistry).getConnection();
+        counted.prepareStatement("select 1");
+        counted.prepareStatement("select 1");
+        counted.commit();
+
+        assertThat(meterRegistry.get("datasource.routing.statements").tag("target", "replica-1").counter().count())
+                .isEqualTo(2);
+        verify(connection).commit();
+    }
+
+    private Object lookupKeyWithPrimaryUntil(long primaryUntil) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesDataSource.PRIMARY_UNTIL_COOKIE, Long.toString(primaryUntil)));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return routing.determineCurrentLookupKey();
+    }
+}
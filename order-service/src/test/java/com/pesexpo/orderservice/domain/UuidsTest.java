@@ -0,0 +1,64 @@
+package com.pesexpo.orderservice.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidsTest {
+
+    @Test
+    @DisplayName("Should generate version 7 UUIDs with the RFC variant")
+    void timeOrdered_VersionAndVariant() {
+        UUID uuid = Uuids.timeOrdered();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should embed the current epoch millis in the leading 48 bits")
+    void timeOrdered_Timestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = Uuids.timeOrdered();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after);
+    }
+
+    @Test
+    @DisplayName("Should sort UUIDs from later milliseconds after earlier ones")
+    void timeOrdered_SortsByTime() throws InterruptedException {
+        UUID first = Uuids.timeOrdered();
+        Thread.sleep(2);
+        UUID second = Uuids.timeOrdered();
+
+        assertThat(first.toString()).isLessThan(second.toString());
+    }
+
+    @Test
+    @DisplayName("Should not repeat UUIDs generated within the same millisecond")
+    void timeOrdered_Unique() {
+        Set<UUID> uuids = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            uuids.add(Uuids.timeOrdered());
+        }
+
+        assertThat(uuids).hasSize(100_000);
+    }
+
+    @Test
+    @DisplayName("Should bind malformed uuids as NULL so lookups find nothing")
+    void converter_MalformedUuid() {
+        UuidConverter converter = new UuidConverter();
+        UUID uuid = Uuids.timeOrdered();
+
+        assertThat(converter.convertToDatabaseColumn(uuid.toString())).isEqualTo(uuid);
+        assertThat(converter.convertToDatabaseColumn("not-a-uuid")).isNull();
+        assertThat(converter.convertToEntityAttribute(uuid)).isEqualTo(uuid.toString());
+    }
+}
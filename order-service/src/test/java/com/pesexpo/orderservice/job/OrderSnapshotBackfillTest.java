@@ -0,0 +1,107 @@
+package com.pesexpo.orderservice.job;
+
+import com.pesexpo.orderservice.client.ProductClient;
+import com.pesexpo.orderservice.client.dto.ProductBatchRequest;
+import com.pesexpo.orderservice.client.dto.ProductResponse;
+import com.pesexpo.orderservice.config.OrderBackfillProperties;
+import com.pesexpo.orderservice.domain.Order;
+import com.pesexpo.orderservice.domain.OrderStatus;
+import com.pesexpo.orderservice.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSnapshotBackfillTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProductClient productClient;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private AsyncTaskExecutor taskExecutor;
+
+    private OrderSnapshotBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        backfill = new OrderSnapshotBackfill(orderRepository, productClient, transactionTemplate, taskExecutor,
+                new OrderBackfillProperties(true, 500));
+    }
+
+    @Test
+    @DisplayName("Should fill the snapshot of legacy orders with one bulk update per product name")
+    void shouldFillSnapshotOnLegacyOrders() {
+        Order legacyOrder = legacyOrder(1, "prod-1");
+        Order orphanOrder = legacyOrder(2, "deleted-prod");
+        when(orderRepository.findByUnitPriceIsNullAndIdGreaterThanOrderByIdAsc(0, Limit.of(500)))
+                .thenReturn(List.of(legacyOrder, orphanOrder));
+        when(productClient.findProductsByUuids(new ProductBatchRequest(List.of("prod-1", "deleted-prod"))))
+                .thenReturn(List.of(new ProductResponse("prod-1", "Widget", new BigDecimal("12.00"))));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(orderRepository.fillSnapshot("Widget", List.of(1))).thenReturn(1);
+        when(orderRepository.fillSnapshot(null, List.of(2))).thenReturn(1);
+
+        int updated = backfill.backfill();
+
+        assertThat(updated).isEqualTo(2);
+        verify(orderRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should count only the rows the update changed")
+    void shouldCountOnlyUpdatedRows() {
+        when(orderRepository.findByUnitPriceIsNullAndIdGreaterThanOrderByIdAsc(0, Limit.of(500)))
+                .thenReturn(List.of(legacyOrder(1, "prod-1"), legacyOrder(2, "prod-1")));
+        when(productClient.findProductsByUuids(new ProductBatchRequest(List.of("prod-1"))))
+                .thenReturn(List.of(new ProductResponse("prod-1", "Widget", new BigDecimal("12.00"))));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        // Order 2 was deleted after it was read
+        when(orderRepository.fillSnapshot("Widget", List.of(1, 2))).thenReturn(1);
+
+        assertThat(backfill.backfill()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when all orders have a snapshot")
+    void shouldDoNothingWhenAllOrdersHaveSnapshot() {
+        when(orderRepository.findByUnitPriceIsNullAndIdGreaterThanOrderByIdAsc(0, Limit.of(500))).thenReturn(List.of());
+
+        assertThat(backfill.backfill()).isZero();
+        verifyNoInteractions(productClient, transactionTemplate);
+    }
+
+    private static Order legacyOrder(int id, String productUuid) {
+        Order order = new Order();
+        order.setId(id);
+        order.setUuid("order-" + id);
+        order.setProductUuid(productUuid);
+        order.setQuantity(3);
+        order.setTotalPrice(new BigDecimal("29.97"));
+        order.setOrderDate(LocalDateTime.of(2024, 1, 15, 10, 30));
+        order.setStatus(OrderStatus.DELIVERED);
+        return order;
+    }
+}
@@ -0,0 +1,73 @@
+package com.pesexpo.orderservice.job;
+
+import com.pesexpo.orderservice.client.ProductEventClient;
+import com.pesexpo.orderservice.client.dto.ProductChangeEvent;
+import com.pesexpo.orderservice.config.ProductEventProperties;
+import com.pesexpo.orderservice.domain.dto.EventOffset;
+import com.pesexpo.orderservice.service.ProductEventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductEventPollerTest {
+
+    @Mock
+    private ProductEventClient productEventClient;
+
+    @Mock
+    private ProductEventService productEventService;
+
+    private ProductEventPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        poller = new ProductEventPoller(productEventClient, productEventService,
+                new ProductEventProperties(true, Duration.ofSeconds(1), 2));
+    }
+
+    @Test
+    @DisplayName("Should start at the newest event and continue from the applied offset")
+    void shouldStartAtLatestAndContinue() {
+        List<ProductChangeEvent> events = List.of(event(101), event(102));
+        when(productEventClient.findLatestOffset()).thenReturn(new EventOffset(100));
+        when(productEventClient.findEventsAfter(100, 2)).thenReturn(events);
+        when(productEventService.apply(events)).thenReturn(new EventOffset(102));
+        when(productEventClient.findEventsAfter(102, 2)).thenReturn(List.of());
+
+        poller.poll();
+        poller.poll();
+
+        verify(productEventClient, times(1)).findLatestOffset();
+        verify(productEventClient, times(2)).findEventsAfter(102, 2);
+    }
+
+    @Test
+    @DisplayName("Should retry from the same offset after a failed poll")
+    void shouldRetryAfterFailure() {
+        when(productEventClient.findLatestOffset()).thenReturn(new EventOffset(100));
+        when(productEventClient.findEventsAfter(100, 2))
+                .thenThrow(new ResourceAccessException("Connection refused"))
+                .thenReturn(List.of());
+
+        poller.poll();
+        poller.poll();
+
+        verify(productEventClient, times(2)).findEventsAfter(100, 2);
+        verifyNoInteractions(productEventService);
+    }
+
+    private static ProductChangeEvent event(long sequenceNumber) {
+        return new ProductChangeEvent(sequenceNumber, "UPDATED", "prod-" + sequenceNumber, "Widget", null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,145 @@
+package com.pesexpo.orderservice.job;
+
+import com.pesexpo.orderservice.config.WarmupProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.health.contributor.Status;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadinessWarmupTest {
+
+    @Mock
+    private Environment environment;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private AsyncTaskExecutor taskExecutor;
+
+    private ReadinessWarmup warmup(boolean enabled) {
+        WarmupProperties properties = new WarmupProperties(enabled, Duration.ofSeconds(60), Duration.ofMillis(50), 0.99,
+                2000, 200, 4, Duration.ofSeconds(5), List.of("/api/v1/orders?limit=50"));
+        return new ReadinessWarmup(properties, environment, objectMapper, taskExecutor);
+    }
+
+    @Nested
+    @DisplayName("health")
+    class HealthTests {
+
+        @Test
+        @DisplayName("Should be out of service from startup until the warm-up is done")
+        void shouldBeOutOfServiceUntilWarm() {
+            ReadinessWarmup warmup = warmup(true);
+
+            warmup.onApplicationReady();
+
+            assertThat(warmup.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+            verify(taskExecutor).execute(any(Runnable.class));
+        }
+
+        @Test
+        @DisplayName("Should be up even when the warm-up fails")
+        void shouldBeUpAfterFailedWarmup() {
+            ReadinessWarmup warmup = warmup(true);
+            when(environment.getRequiredProperty("local.server.port")).thenThrow(new IllegalStateException("No port"));
+
+            warmup.run();
+
+            assertThat(warmup.health().getStatus()).isEqualTo(Status.UP);
+        }
+
+        @Test
+        @DisplayName("Should be up and start nothing when disabled")
+        void shouldBeUpWhenDisabled() {
+            ReadinessWarmup warmup = warmup(false);
+
+            warmup.onApplicationReady();
+
+            assertThat(warmup.health().getStatus()).isEqualTo(Status.UP);
+            verifyNoInteractions(taskExecutor);
+        }
+    }
+
+    @Nested
+    @DisplayName("requests")
+    class Requests {
+
+        private final List<String> templates = List.of(
+                "/api/v1/orders?limit=50",
+                "/api/v1/orders/{orderUuid}",
+                "/api/v1/orders/product/{productUuid}");
+
+        @Test
+        @DisplayName("Should cycle through the templates, moving to the next sample each pass")
+        void shouldExpandTemplates() {
+            ReadinessWarmup.Samples samples = new ReadinessWarmup.Samples(List.of("o-1", "o-2"), List.of("p-1"));
+
+            assertThat(List.of(0, 1, 2, 3, 4, 5, 7).stream()
+                    .map(index -> ReadinessWarmup.expand(templates, samples, index))
+                    .toList())
+                    .containsExactly(
+                            "/api/v1/orders?limit=50",
+                            "/api/v1/orders/o-1",
+                            "/api/v1/orders/product/p-1",
+                            "/api/v1/orders?limit=50",
+                            "/api/v1/orders/o-2",
+                            "/api/v1/orders/product/p-1",
+                            "/api/v1/orders/o-1");
+        }
+
+        @Test
+        @DisplayName("Should only cover templates whose placeholders have samples")
+        void shouldSkipTemplatesWithoutSamples() {
+            ReadinessWarmup.Samples samples = new ReadinessWarmup.Samples(List.of(), List.of());
+
+            assertThat(templates.stream().filter(samples::covers)).containsExactly("/api/v1/orders?limit=50");
+        }
+    }
+
+    @Test
+    @DisplayName("Should take the nearest-rank percentile")
+    void shouldComputePercentile() {
+        long[] latencies = new long[200];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = latencies.length - i;
+        }
+
+        assertThat(ReadinessWarmup.percentile(latencies, 0.99)).isEqualTo(198);
+        assertThat(ReadinessWarmup.percentile(latencies, 0.5)).isEqualTo(100);
+        assertThat(ReadinessWarmup.percentile(new long[]{7}, 0.99)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should leave failed requests out of the round p99 and count them against the success ratio")
+    void shouldSummarizeRoundWithoutFailures() {
+        long[] latencies = new long[100];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = i + 1;
+        }
+        // Slow timeouts that would otherwise be the p99
+        latencies[0] = -5_000;
+        latencies[1] = -5_000;
+
+        ReadinessWarmup.Round round = ReadinessWarmup.summarize(latencies);
+
+        assertThat(round.p99Nanos()).isEqualTo(100);
+        assertThat(round.successRatio()).isEqualTo(0.98);
+        assertThat(round.failures()).isEqualTo(2);
+        assertThat(ReadinessWarmup.summarize(new long[]{-1, -2})).isEqualTo(new ReadinessWarmup.Round(0, 0, 2));
+    }
+}
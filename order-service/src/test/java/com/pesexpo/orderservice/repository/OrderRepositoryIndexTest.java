@@ -0,0 +1,176 @@
+package com.pesexpo.orderservice.repository;
+
+import com.pesexpo.orderservice.domain.Order;
+import com.pesexpo.orderservice.domain.OrderStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the migrations against PostgreSQL and checks the plan of each {@link OrderRepository} query.
+ * The SQL is the statement Hibernate generates for the repository method, captured by {@link SqlCapture}
+ * and explained with the same typed bind parameters, over a table seeded and analyzed with enough rows
+ * that the planner only picks an index when it pays off.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.pesexpo.orderservice.repository.SqlCapture")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class OrderRepositoryIndexTest {
+
+    private static final int SEEDED_ORDERS = 100_000;
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    // Outside the test transaction, so the rows are committed and VACUUM can run. 1000 products,
+    // statuses spread evenly, one order every 10 minutes from 2023 on and 1% without a snapshot
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO orders (id, uuid, product_uuid, product_name, unit_price, quantity, total_price, order_date, status)
+                SELECT g, gen_random_uuid(), 'product-' || g % 1000, 'Product ' || g % 1000,
+                       CASE WHEN g % 100 = 0 THEN NULL ELSE 10.00 END, 1 + g % 5, (1 + g % 5) * 10.00,
+                       timestamp '2023-01-01' + g * interval '10 minutes',
+                       (ARRAY['PENDING', 'CONFIRMED', 'SHIPPED', 'DELIVERED', 'CANCELLED'])[1 + g % 5]
+                FROM generate_series(1001, 1000 + ?) g
+                """, SEEDED_ORDERS);
+        jdbcTemplate.execute("VACUUM ANALYZE orders");
+    }
+
+    private String explain(Runnable repositoryCall, Object... parameters) {
+        String sql = SqlCapture.lastStatementOf(repositoryCall);
+        assertThat(sql.chars().filter(c -> c == '?').count()).as("bind parameters of %s", sql).isEqualTo(parameters.length);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters));
+    }
+
+    @Test
+    @DisplayName("findByUuid uses the uuid unique index")
+    void findByUuid() {
+        UUID uuid = UUID.fromString("0190a6e0-0000-7000-8000-000000000000");
+
+        String plan = explain(() -> orderRepository.findByUuid(uuid.toString()), uuid);
+
+        assertThat(plan).contains("orders_uuid_key").doesNotContain("Seq Scan on orders");
+    }
+
+    @Test
+    @DisplayName("findByIdGreaterThanOrderByIdAsc walks the primary key")
+    void findByIdGreaterThan() {
+        String plan = explain(() -> orderRepository.findByIdGreaterThanOrderByIdAsc(50_000, Limit.of(51)), 50_000, 51);
+
+        assertThat(plan).contains("orders_pkey").doesNotContain("Seq Scan on orders", "Sort");
+    }
+
+    @Test
+    @DisplayName("findByUnitPriceIsNullAndIdGreaterThanOrderByIdAsc uses the missing snapshot index")
+    void findMissingSnapshot() {
+        String plan = explain(() -> orderRepository.findByUnitPriceIsNullAndIdGreaterThanOrderByIdAsc(0, Limit.of(500)), 0, 500);
+
+        assertThat(plan).contains("idx_orders_missing_snapshot").doesNotContain("Seq Scan on orders");
+    }
+
+    @Test
+    @DisplayName("findByProductUuidOrderByOrderDateDesc uses the composite index")
+    void findByProductUuid() {
+        String plan = explain(() -> orderRepository.findByProductUuidOrderByOrderDateDesc("product-7"), "product-7");
+
+        assertThat(plan).contains("idx_orders_product_uuid_order_date").doesNotContain("Seq Scan on orders");
+    }
+
+    @Test
+    @DisplayName("findByStatusOrderByOrderDateAsc uses the partial index of each status")
+    void findByStatus() {
+        for (OrderStatus status : OrderStatus.values()) {
+            String plan = explain(() -> orderRepository.findByStatusOrderByOrderDateAsc(status, Limit.of(50)), status.name(), 50);
+
+            assertThat(plan).contains("idx_orders_" + status.name().toLowerCase() + "_order_date")
+                    .doesNotContain("Seq Scan on orders");
+        }
+    }
+
+    @Test
+    @DisplayName("Aggregate queries range-scan the covering order_date index")
+    void aggregates() {
+        for (String plan : List.of(
+                explain(() -> orderRepository.sumSalesByProduct(FROM, TO, Limit.of(10)), FROM, TO, 10),
+                explain(() -> orderRepository.countByStatus(FROM, TO), FROM, TO),
+                explain(() -> orderRepository.sumByDay(FROM, TO), FROM, TO))) {
+            assertThat(plan).contains("idx_orders_order_date_totals").doesNotContain("Seq Scan on orders");
+        }
+    }
+
+    @Test
+    @DisplayName("streamAll reads in primary key order")
+    void streamAll() {
+        String plan = explain(() -> {
+            try (Stream<Order> orders = orderRepository.streamAll()) {
+                orders.findFirst();
+            }
+        });
+
+        assertThat(plan).contains("orders_pkey").doesNotContain("Seq Scan on orders", "Sort");
+    }
+
+    @Test
+    @DisplayName("deleteByUuidUpdatingStats finds the order through the uuid unique index")
+    void deleteByUuidUpdatingStatsPlan() {
+        UUID uuid = UUID.fromString("0190a6e0-0000-7000-8000-000000000000");
+
+        String plan = explain(() -> orderRepository.deleteByUuidUpdatingStats(uuid), uuid);
+
+        assertThat(plan).contains("orders_uuid_key").doesNotContain("Seq Scan on orders");
+    }
+
+    @Test
+    @DisplayName("deleteByUuidUpdatingStats deletes the order and takes it out of the product stats")
+    void deleteByUuidUpdatingStats() {
+        UUID older = UUID.fromString("0190a6e0-0000-7000-8000-000000000001");
+        UUID latest = UUID.fromString("0190a6e0-0000-7000-8000-000000000002");
+        insertOrder(1, older, 2, "20.00", LocalDateTime.of(2024, 1, 1, 10, 0));
+        insertOrder(2, latest, 1, "10.00", LocalDateTime.of(2024, 1, 2, 10, 0));
+        jdbcTemplate.update("INSERT INTO product_order_stats VALUES ('prod-1', 2, 3, 30.00, '2024-01-02 10:00')");
+
+        assertThat(orderRepository.deleteByUuidUpdatingStats(latest)).isEqualTo(1);
+        assertThat(orderRepository.deleteByUuidUpdatingStats(latest)).isZero();
+
+        Map<String, Object> stats = jdbcTemplate.queryForMap("SELECT * FROM product_order_stats WHERE product_uuid = 'prod-1'");
+        assertThat(stats.get("order_count")).isEqualTo(1L);
+        assertThat(stats.get("total_quantity")).isEqualTo(2L);
+        assertThat((BigDecimal) stats.get("total_revenue")).isEqualByComparingTo("20.00");
+        assertThat(stats.get("last_order_date").toString()).startsWith("2024-01-01 10:00");
+    }
+
+    private void insertOrder(int id, UUID uuid, int quantity, String totalPrice, LocalDateTime orderDate) {
+        jdbcTemplate.update("INSERT INTO orders (id, uuid, product_uuid, quantity, total_price, order_date, status) "
+                + "VALUES (?, ?, 'prod-1', ?, ?, ?, 'PENDING')", id, uuid, quantity, new BigDecimal(totalPrice), orderDate);
+    }
+}
@@ -0,0 +1,78 @@
+package com.pesexpo.orderservice.service.impl;
+
+import com.pesexpo.orderservice.domain.OrderStatus;
+import com.pesexpo.orderservice.domain.dto.DailyTotals;
+import com.pesexpo.orderservice.domain.dto.ProductSales;
+import com.pesexpo.orderservice.domain.dto.StatusCount;
+import com.pesexpo.orderservice.repository.OrderRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderAnalyticsServiceImplTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private OrderAnalyticsServiceImpl analyticsService;
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 31);
+
+    @Test
+    @DisplayName("Should query whole days up to and including the end date with a clamped limit")
+    void shouldQuerySalesByProduct() {
+        ProductSales sales = new ProductSales("prod-1", 3L, 7L, new BigDecimal("69.93"));
+        when(orderRepository.sumSalesByProduct(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0), Limit.of(500)))
+                .thenReturn(List.of(sales));
+
+        assertThat(analyticsService.salesByProduct(FROM, TO, 10_000)).containsExactly(sales);
+    }
+
+    @Test
+    @DisplayName("Should return counts per status")
+    void shouldCountByStatus() {
+        StatusCount pending = new StatusCount(OrderStatus.PENDING, 4L);
+        when(orderRepository.countByStatus(FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay())).thenReturn(List.of(pending));
+
+        assertThat(analyticsService.countsByStatus(FROM, TO)).containsExactly(pending);
+    }
+
+    @Test
+    @DisplayName("Should return one row per day for a single-day range")
+    void shouldSumByDay() {
+        DailyTotals day = new DailyTotals(FROM, 2L, 5L, new BigDecimal("50.00"));
+        when(orderRepository.sumByDay(FROM.atStartOfDay(), FROM.plusDays(1).atStartOfDay())).thenReturn(List.of(day));
+
+        assertThat(analyticsService.dailyTotals(FROM, FROM)).containsExactly(day);
+    }
+
+    @Test
+    @DisplayName("Should reject reversed and oversized ranges")
+    void shouldRejectInvalidRanges() {
+        assertThatThrownBy(() -> analyticsService.dailyTotals(TO, FROM))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("from must not be after to");
+        assertThatThrownBy(() -> analyticsService.countsByStatus(FROM, FROM.plusDays(OrderAnalyticsServiceImpl.MAX_RANGE_DAYS)))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("must not exceed");
+        verifyNoInteractions(orderRepository);
+    }
+}
@@ -1,32 +1,52 @@
 package com.pesexpo.orderservice.service.impl;
 
 import com.pesexpo.orderservice.client.ProductClient;
+import com.pesexpo.orderservice.client.dto.ProductBatchRequest;
 import com.pesexpo.orderservice.client.dto.ProductResponse;
 import com.pesexpo.orderservice.domain.Order;
 import com.pesexpo.orderservice.domain.OrderStatus;
+import com.pesexpo.orderservice.domain.ProductOrderStats;
+import com.pesexpo.orderservice.domain.dto.BatchItemResult;
 import com.pesexpo.orderservice.domain.dto.CreateOrder;
+import com.pesexpo.orderservice.domain.dto.CursorPage;
+import com.pesexpo.orderservice.domain.dto.ProductOrderStatsResponse;
 import com.pesexpo.orderservice.domain.dto.ResponseOrder;
 import com.pesexpo.orderservice.repository.OrderRepository;
+import com.pesexpo.orderservice.repository.ProductOrderStatsRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,9 +55,21 @@ class OrderServiceImplTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private ProductOrderStatsRepository statsRepository;
+
     @Mock
     private ProductClient productClient;
 
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -64,6 +96,14 @@ class OrderServiceImplTest {
         testOrder.setStatus(OrderStatus.PENDING);
     }
 
+    // Runs the callback as if in a transaction
+    private void runTransactions() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
     @Nested
     @DisplayName("createOrder tests")
     class CreateOrderTests {
@@ -71,6 +111,7 @@ class OrderServiceImplTest {
         @Test
         @DisplayName("Should create order successfully")
         void shouldCreateOrderSuccessfully() {
+            runTransactions();
             CreateOrder createOrder = new CreateOrder(TEST_PRODUCT_UUID, 3);
             when(productClient.findProductByUuid(TEST_PRODUCT_UUID)).thenReturn(testProduct);
             when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
@@ -87,11 +128,15 @@ class OrderServiceImplTest {
             assertThat(savedOrder.getStatus()).isEqualTo(OrderStatus.PENDING);
             assertThat(savedOrder.getUuid()).isNotNull();
             assertThat(savedOrder.getOrderDate()).isNotNull();
+            assertThat(savedOrder.getProductName()).isEqualTo("Test Product");
+            assertThat(savedOrder.getUnitPrice()).isEqualByComparingTo(new BigDecimal("99.99"));
+            verify(statsRepository).addOrders(TEST_PRODUCT_UUID, 1, 3, savedOrder.getTotalPrice(), savedOrder.getOrderDate());
         }
 
         @Test
         @DisplayName("Should calculate total price correctly")
         void shouldCalculateTotalPriceCorrectly() {
+            runTransactions();
             CreateOrder createOrder = new CreateOrder(TEST_PRODUCT_UUID, 5);
             when(productClient.findProductByUuid(TEST_PRODUCT_UUID)).thenReturn(testProduct);
             when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
@@ -105,6 +150,67 @@ class OrderServiceImplTest {
             // 99.99 * 5 = 499.95
             assertThat(savedOrder.getTotalPrice()).isEqualByComparingTo(new BigDecimal("499.95"));
         }
+
+        @Test
+        @DisplayName("Should resolve the product before the transaction starts")
+        void shouldResolveProductOutsideTransaction() {
+            runTransactions();
+            when(productClient.findProductByUuid(TEST_PRODUCT_UUID)).thenReturn(testProduct);
+
+            orderService.createOrder(new CreateOrder(TEST_PRODUCT_UUID, 1));
+
+            InOrder inOrder = inOrder(productClient, transactionTemplate, orderRepository);
+            inOrder.verify(productClient).findProductByUuid(TEST_PRODUCT_UUID);
+            inOrder.verify(transactionTemplate).executeWithoutResult(any());
+            inOrder.verify(orderRepository).save(any(Order.class));
+        }
+
+        @Test
+        @DisplayName("Should not start a transaction when the product lookup fails")
+        void shouldNotStartTransactionWhenProductLookupFails() {
+            when(productClient.findProductByUuid(TEST_PRODUCT_UUID))
+                    .thenThrow(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Product service unavailable"));
+
+            assertThatThrownBy(() -> orderService.createOrder(new CreateOrder(TEST_PRODUCT_UUID, 1)))
+                    .isInstanceOf(ResponseStatusException.class);
+            verifyNoInteractions(transactionTemplate, orderRepository, statsRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("createOrders tests")
+    class CreateOrdersTests {
+
+        @Test
+        @DisplayName("Should resolve each product once and save all orders in one call")
+        @SuppressWarnings("unchecked")
+        void shouldCreateOrdersInBulk() {
+            runTransactions();
+            List<CreateOrder> createOrders = List.of(
+                    new CreateOrder(TEST_PRODUCT_UUID, 1),
+                    new CreateOrder("missing-product", 2),
+                    new CreateOrder(TEST_PRODUCT_UUID, 3));
+            when(productClient.findProductsByUuids(new ProductBatchRequest(List.of(TEST_PRODUCT_UUID, "missing-product"))))
+                    .thenReturn(List.of(testProduct));
+
+            List<BatchItemResult> results = orderService.createOrders(createOrders);
+
+            assertThat(results).extracting(BatchItemResult::created).containsExactly(true, false, true);
+            assertThat(results.get(1).error()).isEqualTo("Product not found");
+            assertThat(results.get(0).uuid()).isNotNull();
+
+            ArgumentCaptor<List<Order>> ordersCaptor = ArgumentCaptor.forClass(List.class);
+            verify(orderRepository).saveAll(ordersCaptor.capture());
+            assertThat(ordersCaptor.getValue()).extracting(Order::getTotalPrice)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactly(new BigDecimal("99.99"), new BigDecimal("299.97"));
+            verify(productClient, never()).findProductByUuid(any());
+
+            // Both created orders folded into one stats upsert
+            ArgumentCaptor<BigDecimal> revenueCaptor = ArgumentCaptor.forClass(BigDecimal.class);
+            verify(statsRepository).addOrders(eq(TEST_PRODUCT_UUID), eq(2L), eq(4L), revenueCaptor.capture(), any());
+            assertThat(revenueCaptor.getValue()).isEqualByComparingTo(new BigDecimal("399.96"));
+        }
     }
 
     @Nested
@@ -123,10 +229,10 @@ class OrderServiceImplTest {
             order2.setOrderDate(LocalDateTime.of(2024, 1, 16, 14, 0));
             order2.setStatus(OrderStatus.CONFIRMED);
 
-            when(orderRepository.findAll()).thenReturn(List.of(testOrder, order2));
-            when(productClient.findProductByUuid(TEST_PRODUCT_UUID)).thenReturn(testProduct);
+            when(orderRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any(Limit.class))).thenReturn(List.of(testOrder, order2));
+            when(productClient.findProductsByUuids(any(ProductBatchRequest.class))).thenReturn(List.of(testProduct));
 
-            List<ResponseOrder> result = orderService.findAll();
+            List<ResponseOrder> result = orderService.findAll(null, 50, false).items();
 
             assertThat(result).hasSize(2);
             assertThat(result.get(0).uuid()).isEqualTo(TEST_ORDER_UUID);
@@ -135,17 +241,96 @@ class OrderServiceImplTest {
             assertThat(result.get(1).quantity()).isEqualTo(1);
         }
 
+        @Test
+        @DisplayName("Should resolve distinct products in a single batch call")
+        void shouldResolveDistinctProductsInSingleBatchCall() {
+            Order order2 = new Order();
+            order2.setId(2);
+            order2.setUuid("order-uuid-2");
+            order2.setProductUuid("product-uuid-789");
+            order2.setQuantity(1);
+            order2.setTotalPrice(new BigDecimal("5.00"));
+            order2.setOrderDate(LocalDateTime.of(2024, 1, 16, 14, 0));
+            order2.setStatus(OrderStatus.CONFIRMED);
+            ProductResponse product2 = new ProductResponse("product-uuid-789", "Other Product", new BigDecimal("5.00"));
+
+            when(orderRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any(Limit.class))).thenReturn(List.of(testOrder, order2, testOrder));
+            when(productClient.findProductsByUuids(any(ProductBatchRequest.class))).thenReturn(List.of(testProduct, product2));
+
+            List<ResponseOrder> result = orderService.findAll(null, 50, false).items();
+
+            ArgumentCaptor<ProductBatchRequest> requestCaptor = ArgumentCaptor.forClass(ProductBatchRequest.class);
+            verify(productClient).findProductsByUuids(requestCaptor.capture());
+            verify(productClient, never()).findProductByUuid(any());
+            assertThat(requestCaptor.getValue().uuids()).containsExactly(TEST_PRODUCT_UUID, "product-uuid-789");
+            assertThat(result).extracting(order -> order.product().productName())
+                    .containsExactly("Test Product", "Other Product", "Test Product");
+        }
+
+        @Test
+        @DisplayName("Should return null product when product no longer exists")
+        void shouldReturnNullProductWhenProductMissing() {
+            when(orderRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any(Limit.class))).thenReturn(List.of(testOrder));
+            when(productClient.findProductsByUuids(any(ProductBatchRequest.class))).thenReturn(Collections.emptyList());
+
+            List<ResponseOrder> result = orderService.findAll(null, 50, false).items();
+
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).product()).isNull();
+        }
+
         @Test
         @DisplayName("Should return empty list when no orders")
         void shouldReturnEmptyListWhenNoOrders() {
-            when(orderRepository.findAll()).thenReturn(Collections.emptyList());
+            when(orderRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any(Limit.class))).thenReturn(Collections.emptyList());
 
-            List<ResponseOrder> result = orderService.findAll();
+            List<ResponseOrder> result = orderService.findAll(null, 50, false).items();
 
             assertThat(result).isEmpty();
         }
     }
 
+    @Nested
+    @DisplayName("findAll pagination tests")
+    class FindAllPaginationTests {
+
+        @Test
+        @DisplayName("Should return next cursor when more rows exist")
+        void shouldReturnNextCursorWhenMoreRowsExist() {
+            Order order2 = new Order();
+            order2.setId(2);
+            order2.setUuid("order-uuid-2");
+            order2.setProductUuid(TEST_PRODUCT_UUID);
+            order2.setQuantity(1);
+            order2.setTotalPrice(new BigDecimal("99.99"));
+            order2.setOrderDate(LocalDateTime.of(2024, 1, 16, 14, 0));
+            order2.setStatus(OrderStatus.CONFIRMED);
+
+            when(orderRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.of(2))).thenReturn(List.of(testOrder, order2));
+            when(productClient.findProductsByUuids(any(ProductBatchRequest.class))).thenReturn(List.of(testProduct));
+
+            CursorPage<ResponseOrder> firstPage = orderService.findAll(null, 1, false);
+
+            assertThat(firstPage.items()).extracting(ResponseOrder::uuid).containsExactly(TEST_ORDER_UUID);
+            assertThat(firstPage.nextCursor()).isNotNull();
+
+            when(orderRepository.findByIdGreaterThanOrderByIdAsc(1, Limit.of(2))).thenReturn(List.of(order2));
+
+            CursorPage<ResponseOrder> secondPage = orderService.findAll(firstPage.nextCursor(), 1, false);
+
+            assertThat(secondPage.items()).extracting(ResponseOrder::uuid).containsExactly("order-uuid-2");
+            assertThat(secondPage.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThatThrownBy(() -> orderService.findAll("not-a-cursor", 10, false))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .hasMessageContaining("Invalid cursor");
+        }
+    }
+
     @Nested
     @DisplayName("findByUuid tests")
     class FindByUuidTests {
@@ -156,7 +341,7 @@ class OrderServiceImplTest {
             when(orderRepository.findByUuid(TEST_ORDER_UUID)).thenReturn(Optional.of(testOrder));
             when(productClient.findProductByUuid(TEST_PRODUCT_UUID)).thenReturn(testProduct);
 
-            ResponseOrder result = orderService.findByUuid(TEST_ORDER_UUID);
+            ResponseOrder result = orderService.findByUuid(TEST_ORDER_UUID, false);
 
             assertThat(result.uuid()).isEqualTo(TEST_ORDER_UUID);
             assertThat(result.product().uuid()).isEqualTo(TEST_PRODUCT_UUID);
@@ -171,7 +356,7 @@ class OrderServiceImplTest {
         void shouldThrowExceptionWhenOrderNotFound() {
             when(orderRepository.findByUuid(TEST_ORDER_UUID)).thenReturn(Optional.empty());
 
-            assertThatThrownBy(() -> orderService.findByUuid(TEST_ORDER_UUID))
+            assertThatThrownBy(() -> orderService.findByUuid(TEST_ORDER_UUID, false))
                     .isInstanceOf(ResponseStatusException.class)
                     .hasMessageContaining("Order not found");
         }
@@ -183,12 +368,80 @@ class OrderServiceImplTest {
             when(productClient.findProductByUuid(TEST_PRODUCT_UUID))
                     .thenThrow(new ResponseStatusException(org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE, "Downstream error"));
 
-            assertThatThrownBy(() -> orderService.findByUuid(TEST_ORDER_UUID))
+            assertThatThrownBy(() -> orderService.findByUuid(TEST_ORDER_UUID, false))
                     .isInstanceOf(ResponseStatusException.class)
                     .hasMessageContaining("Downstream error");
         }
     }
 
+    @Nested
+    @DisplayName("product snapshot tests")
+    class ProductSnapshotTests {
+
+        @BeforeEach
+        void setUpSnapshot() {
+            testOrder.setProductName("Ordered Name");
+            testOrder.setUnitPrice(new BigDecimal("89.99"));
+        }
+
+        @Test
+        @DisplayName("Should serve order from its snapshot without calling product service")
+        void shouldServeOrderFromSnapshot() {
+            when(orderRepository.findByUuid(TEST_ORDER_UUID)).thenReturn(Optional.of(testOrder));
+
+            ResponseOrder result = orderService.findByUuid(TEST_ORDER_UUID, false);
+
+            assertThat(result.product().productName()).isEqualTo("Ordered Name");
+            assertThat(result.product().price()).isEqualByComparingTo(new BigDecimal("89.99"));
+            verifyNoInteractions(productClient);
+        }
+
+        @Test
+        @DisplayName("Should enrich with live product data when asked")
+        void shouldEnrichWithLiveProductWhenAsked() {
+            when(orderRepository.findByUuid(TEST_ORDER_UUID)).thenReturn(Optional.of(testOrder));
+            when(productClient.findProductByUuid(TEST_PRODUCT_UUID)).thenReturn(testProduct);
+
+            ResponseOrder result = orderService.findByUuid(TEST_ORDER_UUID, true);
+
+            assertThat(result.product().productName()).isEqualTo("Test Product");
+            assertThat(result.product().price()).isEqualByComparingTo(new BigDecimal("99.99"));
+        }
+
+        @Test
+        @DisplayName("Should only look up orders that have no snapshot yet")
+        void shouldOnlyLookUpOrdersWithoutSnapshot() {
+            Order legacyOrder = new Order();
+            legacyOrder.setId(2);
+            legacyOrder.setUuid("order-uuid-2");
+            legacyOrder.setProductUuid("product-uuid-789");
+            legacyOrder.setQuantity(1);
+            legacyOrder.setTotalPrice(new BigDecimal("5.00"));
+            legacyOrder.setOrderDate(LocalDateTime.of(2024, 1, 16, 14, 0));
+            legacyOrder.setStatus(OrderStatus.CONFIRMED);
+            ProductResponse product2 = new ProductResponse("product-uuid-789", "Other Product", new BigDecimal("5.00"));
+
+            when(orderRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any(Limit.class))).thenReturn(List.of(testOrder, legacyOrder));
+            when(productClient.findProductsByUuids(new ProductBatchRequest(List.of("product-uuid-789")))).thenReturn(List.of(product2));
+
+            List<ResponseOrder> result = orderService.findAll(null, 50, false).items();
+
+            assertThat(result).extracting(order -> order.product().productName())
+                    .containsExactly("Ordered Name", "Other Product");
+        }
+
+        @Test
+        @DisplayName("Should serve orders for product from snapshots")
+        void shouldServeOrdersForProductFromSnapshots() {
+            when(orderRepository.findByProductUuidOrderByOrderDateDesc(TEST_PRODUCT_UUID)).thenReturn(List.of(testOrder));
+
+            List<ResponseOrder> result = orderService.findByProductUuid(TEST_PRODUCT_UUID, false);
+
+            assertThat(result).extracting(order -> order.product().productName()).containsExactly("Ordered Name");
+            verifyNoInteractions(productClient);
+        }
+    }
+
     @Nested
     @DisplayName("findByProductUuid tests")
     class FindByProductUuidTests {
@@ -205,24 +458,45 @@ class OrderServiceImplTest {
             order2.setOrderDate(LocalDateTime.of(2024, 1, 17, 9, 0));
             order2.setStatus(OrderStatus.SHIPPED);
 
-            when(orderRepository.findByProductUuid(TEST_PRODUCT_UUID)).thenReturn(List.of(testOrder, order2));
+            when(orderRepository.findByProductUuidOrderByOrderDateDesc(TEST_PRODUCT_UUID)).thenReturn(List.of(testOrder, order2));
             when(productClient.findProductByUuid(TEST_PRODUCT_UUID)).thenReturn(testProduct);
 
-            List<ResponseOrder> result = orderService.findByProductUuid(TEST_PRODUCT_UUID);
+            List<ResponseOrder> result = orderService.findByProductUuid(TEST_PRODUCT_UUID, false);
 
             assertThat(result).hasSize(2);
             assertThat(result.get(0).uuid()).isEqualTo(TEST_ORDER_UUID);
             assertThat(result.get(1).uuid()).isEqualTo("order-uuid-2");
+            verify(productClient, times(1)).findProductByUuid(TEST_PRODUCT_UUID);
         }
 
         @Test
         @DisplayName("Should return empty list when no orders for product")
         void shouldReturnEmptyListWhenNoOrdersForProduct() {
-            when(orderRepository.findByProductUuid(TEST_PRODUCT_UUID)).thenReturn(Collections.emptyList());
+            when(orderRepository.findByProductUuidOrderByOrderDateDesc(TEST_PRODUCT_UUID)).thenReturn(Collections.emptyList());
 
-            List<ResponseOrder> result = orderService.findByProductUuid(TEST_PRODUCT_UUID);
+            List<ResponseOrder> result = orderService.findByProductUuid(TEST_PRODUCT_UUID, false);
 
             assertThat(result).isEmpty();
+            verifyNoInteractions(productClient);
+        }
+    }
+
+    @Nested
+    @DisplayName("findByStatus tests")
+    class FindByStatusTests {
+
+        @Test
+        @DisplayName("Should return oldest orders in status with clamped limit")
+        void shouldReturnOrdersInStatus() {
+            testOrder.setProductName("Ordered Name");
+            testOrder.setUnitPrice(new BigDecimal("99.99"));
+            when(orderRepository.findByStatusOrderByOrderDateAsc(OrderStatus.PENDING, Limit.of(500)))
+                    .thenReturn(List.of(testOrder));
+
+            List<ResponseOrder> result = orderService.findByStatus(OrderStatus.PENDING, 10_000, false);
+
+            assertThat(result).extracting(ResponseOrder::uuid).containsExactly(TEST_ORDER_UUID);
+            verifyNoInteractions(productClient);
         }
     }
 
@@ -230,28 +504,113 @@ class OrderServiceImplTest {
     @DisplayName("deleteOrder tests")
     class DeleteOrderTests {
 
+        private static final String ORDER_UUID = "0190a6e0-0000-7000-8000-000000000001";
+
         @Test
-        @DisplayName("Should delete order successfully")
+        @DisplayName("Should delete order and subtract it from product stats in one statement")
         void shouldDeleteOrderSuccessfully() {
-            when(orderRepository.existsByUuid(TEST_ORDER_UUID)).thenReturn(true);
-            doNothing().when(orderRepository).deleteByUuid(TEST_ORDER_UUID);
+            when(orderRepository.deleteByUuidUpdatingStats(UUID.fromString(ORDER_UUID))).thenReturn(1);
 
-            orderService.deleteOrder(TEST_ORDER_UUID);
+            orderService.deleteOrder(ORDER_UUID);
 
-            verify(orderRepository).existsByUuid(TEST_ORDER_UUID);
-            verify(orderRepository).deleteByUuid(TEST_ORDER_UUID);
+            verify(orderRepository).deleteByUuidUpdatingStats(UUID.fromString(ORDER_UUID));
+            verify(orderRepository, never()).findByUuid(any());
+            verifyNoInteractions(statsRepository);
         }
 
         @Test
-        @DisplayName("Should throw exception when order not found for delete")
+        @DisplayName("Should throw exception when no order was deleted")
         void shouldThrowExceptionWhenOrderNotFoundForDelete() {
-            when(orderRepository.existsByUuid(TEST_ORDER_UUID)).thenReturn(false);
+            when(orderRepository.deleteByUuidUpdatingStats(UUID.fromString(ORDER_UUID))).thenReturn(0);
 
+            assertThatThrownBy(() -> orderService.deleteOrder(ORDER_UUID))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .hasMessageContaining("Order not found");
+        }
+
+        @Test
+        @DisplayName("Should throw exception without a query for a malformed uuid")
+        void shouldThrowExceptionForMalformedUuid() {
             assertThatThrownBy(() -> orderService.deleteOrder(TEST_ORDER_UUID))
                     .isInstanceOf(ResponseStatusException.class)
                     .hasMessageContaining("Order not found");
 
-            verify(orderRepository, never()).deleteByUuid(any());
+            verifyNoInteractions(orderRepository, statsRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("findStatsByProductUuid tests")
+    class FindStatsByProductUuidTests {
+
+        @Test
+        @DisplayName("Should return the maintained stats row")
+        void shouldReturnStats() {
+            LocalDateTime lastOrderDate = LocalDateTime.of(2024, 1, 20, 8, 0);
+            when(statsRepository.findById(TEST_PRODUCT_UUID)).thenReturn(Optional.of(
+                    new ProductOrderStats(TEST_PRODUCT_UUID, 3L, 7L, new BigDecimal("699.93"), lastOrderDate)));
+
+            ProductOrderStatsResponse stats = orderService.findStatsByProductUuid(TEST_PRODUCT_UUID);
+
+            assertThat(stats.orderCount()).isEqualTo(3);
+            assertThat(stats.totalQuantity()).isEqualTo(7);
+            assertThat(stats.totalRevenue()).isEqualByComparingTo(new BigDecimal("699.93"));
+            assertThat(stats.lastOrderDate()).isEqualTo(lastOrderDate);
+            verifyNoInteractions(orderRepository);
+        }
+
+        @Test
+        @DisplayName("Should return zeros for a product without orders")
+        void shouldReturnZerosWithoutOrders() {
+            when(statsRepository.findById(TEST_PRODUCT_UUID)).thenReturn(Optional.empty());
+
+            ProductOrderStatsResponse stats = orderService.findStatsByProductUuid(TEST_PRODUCT_UUID);
+
+            assertThat(stats.orderCount()).isZero();
+            assertThat(stats.totalRevenue()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(stats.lastOrderDate()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("exportOrders tests")
+    class ExportOrdersTests {
+
+        @Test
+        @DisplayName("Should write one JSON line per order")
+        void shouldWriteOneJsonLinePerOrder() throws Exception {
+            Order order2 = new Order();
+            order2.setId(2);
+            order2.setUuid("order-uuid-2");
+            order2.setProductUuid(TEST_PRODUCT_UUID);
+            order2.setQuantity(1);
+            order2.setTotalPrice(new BigDecimal("99.99"));
+            order2.setOrderDate(LocalDateTime.of(2024, 1, 16, 14, 0));
+            order2.setStatus(OrderStatus.CONFIRMED);
+
+            when(orderRepository.streamAll()).thenReturn(Stream.of(testOrder, order2));
+            when(productClient.findProductsByUuids(any(ProductBatchRequest.class))).thenReturn(List.of(testProduct));
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            orderService.exportOrders(outputStream);
+
+            String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(lines[0]).contains("\"uuid\":\"" + TEST_ORDER_UUID + "\"");
+            assertThat(lines[1]).contains("\"uuid\":\"order-uuid-2\"");
+            verify(entityManager).clear();
+        }
+
+        @Test
+        @DisplayName("Should write nothing when there are no orders")
+        void shouldWriteNothingWhenNoOrders() throws Exception {
+            when(orderRepository.streamAll()).thenReturn(Stream.empty());
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            orderService.exportOrders(outputStream);
+
+            assertThat(outputStream.size()).isZero();
+            verifyNoInteractions(productClient);
         }
     }
 }
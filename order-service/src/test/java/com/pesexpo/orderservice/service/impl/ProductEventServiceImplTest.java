@@ -0,0 +1,99 @@
+package com.pesexpo.orderservice.service.impl;
+
+import com.pesexpo.orderservice.client.CachingProductClient;
+import com.pesexpo.orderservice.client.ProductSnapshots;
+import com.pesexpo.orderservice.client.dto.ProductChangeEvent;
+import com.pesexpo.orderservice.domain.dto.EventOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductEventServiceImplTest {
+
+    @Mock
+    private CachingProductClient productClient;
+
+    @Mock
+    private ProductSnapshots productSnapshots;
+
+    @InjectMocks
+    private ProductEventServiceImpl productEventService;
+
+    @BeforeEach
+    void setUp() {
+        productEventService.apply(List.of(event(10, "UPDATED", "prod-0")));
+        clearInvocations(productClient, productSnapshots);
+    }
+
+    @Test
+    @DisplayName("Should start from the first event after a restart without invalidating everything")
+    void shouldTakeFirstEventAsBaseline() {
+        ProductEventServiceImpl restarted = new ProductEventServiceImpl(productClient, productSnapshots);
+        assertThat(restarted.currentOffset().offset()).isZero();
+
+        EventOffset result = restarted.apply(List.of(event(42, "UPDATED", "prod-1")));
+
+        assertThat(result.offset()).isEqualTo(42);
+        verify(productClient).invalidate("prod-1");
+        verify(productClient, never()).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should invalidate changed products and their snapshots and advance the offset")
+    void shouldInvalidateAndAdvanceOffset() {
+        EventOffset result = productEventService.apply(List.of(event(12, "UPDATED", "prod-2"), event(11, "UPDATED", "prod-1")));
+
+        assertThat(result.offset()).isEqualTo(12);
+        assertThat(productEventService.currentOffset().offset()).isEqualTo(12);
+        verify(productClient).invalidate("prod-1");
+        verify(productClient).invalidate("prod-2");
+        verify(productClient, never()).invalidateAll();
+        verify(productSnapshots).invalidate("prod-1");
+        verify(productSnapshots).invalidate("prod-2");
+        verify(productSnapshots, never()).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should drop the snapshot of a deleted product")
+    void shouldInvalidateSnapshotOnDelete() {
+        productEventService.apply(List.of(event(11, "DELETED", "prod-1")));
+
+        verify(productClient).invalidate("prod-1");
+        verify(productSnapshots).invalidate("prod-1");
+    }
+
+    @Test
+    @DisplayName("Should skip events already applied")
+    void shouldSkipRedeliveredEvents() {
+        EventOffset result = productEventService.apply(List.of(event(9, "UPDATED", "prod-1"), event(10, "UPDATED", "prod-2")));
+
+        assertThat(result.offset()).isEqualTo(10);
+        verifyNoInteractions(productClient, productSnapshots);
+    }
+
+    @Test
+    @DisplayName("Should drop the whole cache and all snapshots when events are missing")
+    void shouldInvalidateAllOnGap() {
+        EventOffset result = productEventService.apply(List.of(event(14, "UPDATED", "prod-4")));
+
+        assertThat(result.offset()).isEqualTo(14);
+        verify(productClient).invalidateAll();
+        verify(productSnapshots).invalidateAll();
+        verify(productClient).invalidate("prod-4");
+    }
+
+    private static ProductChangeEvent event(long sequenceNumber, String type, String productUuid) {
+        return new ProductChangeEvent(sequenceNumber, type, productUuid, "Widget", null, LocalDateTime.now());
+    }
+}
@@ -1,9 +1,12 @@
 package com.pesexpo.productservice;
 
+import com.pesexpo.productservice.config.NativeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeHints.class)
 public class ProductServiceApplication {
 
     public static void main(String[] args) {
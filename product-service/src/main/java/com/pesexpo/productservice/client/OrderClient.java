@@ -1,7 +1,10 @@
 package com.pesexpo.productservice.client;
 
 import com.pesexpo.productservice.client.dto.OrderResponse;
+import com.pesexpo.productservice.client.dto.OrderStatsResponse;
+import com.pesexpo.productservice.domain.dto.CursorPage;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
 
@@ -11,7 +14,8 @@ import java.util.List;
 public interface OrderClient {
 
     @GetExchange
-    List<OrderResponse> findAllOrders();
+    CursorPage<OrderResponse> findAllOrders(@RequestParam(required = false) String cursor,
+                                            @RequestParam int limit);
 
     @GetExchange("/{uuid}")
     OrderResponse findOrderByUuid(@PathVariable String uuid);
@@ -19,4 +23,7 @@ public interface OrderClient {
     @GetExchange("/product/{productUuid}")
     List<OrderResponse> findOrdersByProductUuid(@PathVariable String productUuid);
 
+    @GetExchange("/product/{productUuid}/stats")
+    OrderStatsResponse findOrderStatsByProductUuid(@PathVariable String productUuid);
+
 }
@@ -0,0 +1,16 @@
+package com.pesexpo.productservice.client;
+
+import com.pesexpo.productservice.domain.dto.ProductChangeEvent;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
+
+import java.util.List;
+
+@HttpExchange("/api/v1/product-events")
+public interface ProductEventClient {
+
+    @PostExchange
+    void publish(@RequestBody List<ProductChangeEvent> events);
+
+}
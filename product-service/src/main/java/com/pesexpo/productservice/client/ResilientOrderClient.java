@@ -0,0 +1,60 @@
+package com.pesexpo.productservice.client;
+
+import com.pesexpo.productservice.client.dto.OrderResponse;
+import com.pesexpo.productservice.client.dto.OrderStatsResponse;
+import com.pesexpo.productservice.domain.dto.CursorPage;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * {@link OrderClient} guarded by a bulkhead and a circuit breaker; calls fail fast with 503
+ * while the breaker is open or the bulkhead is full.
+ */
+public class ResilientOrderClient implements OrderClient {
+
+    private final OrderClient delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public ResilientOrderClient(OrderClient delegate, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public CursorPage<OrderResponse> findAllOrders(String cursor, int limit) {
+        return call(() -> delegate.findAllOrders(cursor, limit));
+    }
+
+    @Override
+    public OrderResponse findOrderByUuid(String uuid) {
+        return call(() -> delegate.findOrderByUuid(uuid));
+    }
+
+    @Override
+    public List<OrderResponse> findOrdersByProductUuid(String productUuid) {
+        return call(() -> delegate.findOrdersByProductUuid(productUuid));
+    }
+
+    @Override
+    public OrderStatsResponse findOrderStatsByProductUuid(String productUuid) {
+        return call(() -> delegate.findOrderStatsByProductUuid(productUuid));
+    }
+
+    private <T> T call(Supplier<T> supplier) {
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, supplier)).get();
+        } catch (HttpClientErrorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Order service unavailable", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.pesexpo.productservice.client.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record OrderStatsResponse(
+        String productUuid,
+        long orderCount,
+        long totalQuantity,
+        BigDecimal totalRevenue,
+        LocalDateTime lastOrderDate
+) { }
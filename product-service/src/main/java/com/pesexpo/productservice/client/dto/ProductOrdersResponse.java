@@ -1,13 +1,17 @@
 package com.pesexpo.productservice.client.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.pesexpo.productservice.domain.dto.ResponseProduct;
 import lombok.Builder;
 
 import java.util.List;
 
+// Carries either the order list or, in summary mode, only the stats
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record ProductOrdersResponse(
         ResponseProduct product,
-        List<OrderResponse> orders
+        List<OrderResponse> orders,
+        OrderStatsResponse stats
 ) {
 }
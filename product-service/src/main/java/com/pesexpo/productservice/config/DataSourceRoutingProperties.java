@@ -0,0 +1,32 @@
+package com.pesexpo.productservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Routing of read-only transactions to PostgreSQL replicas.
+ *
+ * @param enabled             route read-only transactions to the replicas; everything uses {@code spring.datasource} when off
+ * @param maxLag              replicas further behind the primary than this are skipped until they catch up
+ * @param healthCheckInterval time between replica reachability and lag checks
+ * @param primaryWindow       a client reads from the primary for this long after it wrote; keep it at least
+ *                            {@code maxLag} plus {@code healthCheckInterval}, the lag a replica in rotation can reach
+ * @param replicaPoolSize     max connections per replica pool
+ * @param replicas            replica connections; username and password default to those of {@code spring.datasource}
+ */
+@ConfigurationProperties(prefix = "datasource-routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("10s") Duration primaryWindow,
+        @DefaultValue("10") int replicaPoolSize,
+        @DefaultValue List<Replica> replicas
+) {
+
+    public record Replica(String name, String url, String username, String password) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.pesexpo.productservice.config;
+
+import com.pesexpo.productservice.client.OrderClient;
+import com.pesexpo.productservice.client.ProductEventClient;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.aot.ReflectiveRuntimeHintsRegistrar;
+
+import java.sql.Connection;
+
+/**
+ * Native-image hints that AOT processing cannot derive from the bean definitions. Entities,
+ * repositories, controllers and configuration properties are covered by Spring's own AOT support.
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // HttpServiceProxyFactory proxies, and the ClientMetrics proxies around them
+        for (Class<?> client : new Class<?>[]{OrderClient.class, ProductEventClient.class}) {
+            hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(client));
+            hints.proxies().registerJdkProxy(client);
+        }
+        // Explicit, as the @HttpExchange methods and DTOs are only scanned on beans created by Spring
+        new ReflectiveRuntimeHintsRegistrar().registerRuntimeHints(hints, OrderClient.class, ProductEventClient.class);
+
+        // CountingDataSource connections, with datasource-routing enabled
+        hints.proxies().registerJdkProxy(Connection.class);
+    }
+}
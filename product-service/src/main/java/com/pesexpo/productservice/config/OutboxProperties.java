@@ -0,0 +1,24 @@
+package com.pesexpo.productservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Relay of the product change outbox.
+ *
+ * @param sink          where events are published: {@code http} (pushed to order-service), {@code pull}
+ *                      (fetched by each order-service instance) or {@code in-process}
+ * @param batchSize     events published per sink call and transaction
+ * @param pollInterval  fallback poll for events whose commit-time wake-up was missed
+ * @param retention     published events older than this are purged
+ */
+@ConfigurationProperties(prefix = "product-outbox")
+public record OutboxProperties(
+        @DefaultValue("http") String sink,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("7d") Duration retention
+) {
+}
@@ -0,0 +1,21 @@
+package com.pesexpo.productservice.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties(ProductOrdersProperties.class)
+public class ProductOrdersConfig {
+
+    // Both branches wait on I/O, so one virtual thread each; the order-service bulkhead bounds the remote calls.
+    // A plain ExecutorService, not an AsyncTaskExecutor, so it never competes with applicationTaskExecutor
+    // for by-type injection; the container closes it on shutdown
+    @Bean
+    public ExecutorService productOrdersExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
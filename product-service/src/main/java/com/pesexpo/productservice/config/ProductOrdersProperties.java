@@ -0,0 +1,19 @@
+package com.pesexpo.productservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Per-branch deadlines of {@code GET /api/v1/products/{uuid}/orders}.
+ *
+ * @param productTimeout deadline of the local product lookup
+ * @param ordersTimeout  deadline of the order-service call
+ */
+@ConfigurationProperties(prefix = "product-orders")
+public record ProductOrdersProperties(
+        @DefaultValue("1s") Duration productTimeout,
+        @DefaultValue("2s") Duration ordersTimeout
+) {
+}
@@ -0,0 +1,31 @@
+package com.pesexpo.productservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker and bulkhead around calls to order-service.
+ *
+ * @param failureRateThreshold       percentage of failed calls that opens the breaker
+ * @param slowCallRateThreshold      percentage of slow calls that opens the breaker
+ * @param slowCallDurationThreshold  calls slower than this count as slow
+ * @param slidingWindowSize          number of recent calls the rates are computed over
+ * @param minimumNumberOfCalls       calls needed before the rates are evaluated
+ * @param waitDurationInOpenState    time the breaker stays open before letting probe calls through
+ * @param maxConcurrentCalls         calls allowed in flight at once, further calls are rejected
+ * @param maxWaitDuration            time a call may wait for a free bulkhead slot
+ */
+@ConfigurationProperties(prefix = "resilience")
+public record ResilienceProperties(
+        @DefaultValue("50") float failureRateThreshold,
+        @DefaultValue("80") float slowCallRateThreshold,
+        @DefaultValue("2s") Duration slowCallDurationThreshold,
+        @DefaultValue("50") int slidingWindowSize,
+        @DefaultValue("20") int minimumNumberOfCalls,
+        @DefaultValue("10s") Duration waitDurationInOpenState,
+        @DefaultValue("64") int maxConcurrentCalls,
+        @DefaultValue("0ms") Duration maxWaitDuration
+) {
+}
@@ -1,8 +1,16 @@
 package com.pesexpo.productservice.config;
 
+import com.pesexpo.productservice.client.ClientMetrics;
 import com.pesexpo.productservice.client.OrderClient;
+import com.pesexpo.productservice.client.ProductEventClient;
+import com.pesexpo.productservice.client.ResilientOrderClient;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
@@ -11,18 +19,49 @@ import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 public class RestClientConfig {
 
     @Bean
-    public OrderClient orderClient() {
+    public OrderClient orderClient(HttpClientProperties httpClientProperties,
+                                   ClientHttpRequestFactory interServiceRequestFactory,
+                                   CircuitBreaker orderServiceCircuitBreaker,
+                                   Bulkhead orderServiceBulkhead,
+                                   MeterRegistry meterRegistry,
+                                   ObservationRegistry observationRegistry) {
         // OpenTelemetry Spring Boot Starter auto-instruments RestClient
         // Trace context propagation happens automatically via bytecode instrumentation
         RestClient restClient = RestClient.builder()
-                .baseUrl("http://localhost:9003")
+                .baseUrl(httpClientProperties.baseUrl())
+                .requestFactory(interServiceRequestFactory)
+                // http.client.requests per uri template and status
+                .observationRegistry(observationRegistry)
                 .build();
 
         HttpServiceProxyFactory factory = HttpServiceProxyFactory
                 .builderFor(RestClientAdapter.create(restClient))
                 .build();
 
-        return factory.createClient(OrderClient.class);
+        // bulkhead + circuit breaker -> client.calls timer -> HTTP
+        OrderClient timedClient = ClientMetrics.timed(OrderClient.class, factory.createClient(OrderClient.class),
+                "order-service", meterRegistry);
+        return new ResilientOrderClient(timedClient, orderServiceCircuitBreaker, orderServiceBulkhead);
+    }
+
+    // No breaker: the outbox relay retries a failed batch on its next poll
+    @Bean
+    public ProductEventClient productEventClient(HttpClientProperties httpClientProperties,
+                                                 ClientHttpRequestFactory interServiceRequestFactory,
+                                                 MeterRegistry meterRegistry,
+                                                 ObservationRegistry observationRegistry) {
+        RestClient restClient = RestClient.builder()
+                .baseUrl(httpClientProperties.baseUrl())
+                .requestFactory(interServiceRequestFactory)
+                // http.client.requests per uri template and status
+                .observationRegistry(observationRegistry)
+                .build();
+
+        ProductEventClient client = HttpServiceProxyFactory
+                .builderFor(RestClientAdapter.create(restClient))
+                .build()
+                .createClient(ProductEventClient.class);
+        return ClientMetrics.timed(ProductEventClient.class, client, "order-service", meterRegistry);
     }
 
 }
@@ -1,17 +1,26 @@
 package com.pesexpo.productservice.controller;
 
 import com.pesexpo.productservice.client.dto.ProductOrdersResponse;
+import com.pesexpo.productservice.domain.dto.BatchProductRequest;
+import com.pesexpo.productservice.domain.dto.BatchItemResult;
 import com.pesexpo.productservice.domain.dto.CreateProduct;
+import com.pesexpo.productservice.domain.dto.CreateProducts;
+import com.pesexpo.productservice.domain.dto.CursorPage;
+import com.pesexpo.productservice.domain.dto.ProductVersion;
 import com.pesexpo.productservice.domain.dto.ResponseProduct;
 import com.pesexpo.productservice.domain.dto.UpdateProduct;
+import com.pesexpo.productservice.domain.dto.VersionedProduct;
 import com.pesexpo.productservice.service.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -29,32 +38,80 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body("Product created successfully");
     }
 
+    @PostMapping(path = "bulk")
+    public ResponseEntity<List<BatchItemResult>> createProducts(@Valid @RequestBody CreateProducts createProducts) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(productService.createProducts(createProducts.products()));
+    }
+
     @GetMapping
-    public ResponseEntity<List<ResponseProduct>> findAll() {
-        log.info("Finding all products");
-        return ResponseEntity.ok(productService.findAll());
+    public ResponseEntity<CursorPage<ResponseProduct>> findAll(@RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "50") int limit) {
+        log.info("Finding products page");
+        return ResponseEntity.ok(productService.findAll(cursor, limit));
+    }
+
+    @PostMapping(path = "batch")
+    public ResponseEntity<List<ResponseProduct>> findByUuids(@Valid @RequestBody BatchProductRequest request) {
+        return ResponseEntity.ok(productService.findByUuids(request.uuids()));
     }
 
     @GetMapping(path = "{uuid}")
-    public ResponseEntity<ResponseProduct> findById(@PathVariable String uuid) {
-        return ResponseEntity.ok(productService.findById(uuid));
+    public ResponseEntity<ResponseProduct> findById(@PathVariable String uuid, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null && request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) == null) {
+            // Nothing to revalidate: one read, with the validators taken from the loaded row
+            VersionedProduct found = productService.findVersionedById(uuid);
+            return withValidators(found.product(), found.version());
+        }
+
+        // Revalidation costs one index lookup on (uuid) -> (version, updated_at); checkNotModified has
+        // already committed the 304 when the caller's validator is current
+        ProductVersion version = productService.findVersion(uuid);
+        if (request.checkNotModified(version.etag(), version.lastModifiedMillis())) {
+            return null;
+        }
+
+        // An update landing between the two reads only makes the ETag older than the body, so the
+        // next revalidation fetches again rather than pinning a stale copy
+        return withValidators(productService.findById(uuid), version);
+    }
+
+    private static ResponseEntity<ResponseProduct> withValidators(ResponseProduct product, ProductVersion version) {
+        return ResponseEntity.ok()
+                .eTag(version.etag())
+                .lastModified(version.lastModifiedMillis())
+                .body(product);
     }
 
     @PutMapping(path = "{uuid}")
-    public ResponseEntity<String> updateProduct(@PathVariable String uuid, @Valid @RequestBody UpdateProduct updateProduct) {
-        productService.updateProduct(uuid, updateProduct);
+    public ResponseEntity<String> updateProduct(@PathVariable String uuid, @Valid @RequestBody UpdateProduct updateProduct,
+                                                @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        productService.updateProduct(uuid, updateProduct, expectedVersion(ifMatch));
         return ResponseEntity.ok("Product updated successfully");
     }
 
     @DeleteMapping(path = "{uuid}")
-    public ResponseEntity<String> deleteProduct(@PathVariable String uuid) {
-        productService.deleteProduct(uuid);
+    public ResponseEntity<String> deleteProduct(@PathVariable String uuid,
+                                                @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        productService.deleteProduct(uuid, expectedVersion(ifMatch));
         return ResponseEntity.ok("Product deleted successfully");
     }
 
+    // No If-Match, or "*", makes the write unconditional; anything but one of our ETags can never match
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.equals("*")) {
+            return null;
+        }
+        Long version = ProductVersion.parseEtag(ifMatch.trim());
+        if (version == null) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "If-Match does not match the product ETag");
+        }
+        return version;
+    }
+
     @GetMapping(path = "{uuid}/orders")
-    public ResponseEntity<ProductOrdersResponse> findProductWithOrders(@PathVariable String uuid) {
-        return ResponseEntity.ok(productService.findProductWithOrders(uuid));
+    public ResponseEntity<ProductOrdersResponse> findProductWithOrders(@PathVariable String uuid,
+                                                                       @RequestParam(defaultValue = "false") boolean summary) {
+        return ResponseEntity.ok(productService.findProductWithOrders(uuid, summary));
     }
 
 }
@@ -0,0 +1,30 @@
+package com.pesexpo.productservice.controller;
+
+import com.pesexpo.productservice.domain.dto.EventOffset;
+import com.pesexpo.productservice.domain.dto.ProductChangeEvent;
+import com.pesexpo.productservice.service.ProductEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/product-events")
+@RequiredArgsConstructor
+public class ProductEventController {
+
+    private final ProductEventService productEventService;
+
+    @GetMapping
+    public ResponseEntity<List<ProductChangeEvent>> findEventsAfter(@RequestParam(defaultValue = "0") long after,
+                                                                    @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(productEventService.findEventsAfter(after, limit));
+    }
+
+    @GetMapping(path = "latest")
+    public ResponseEntity<EventOffset> findLatestOffset() {
+        return ResponseEntity.ok(productEventService.findLatestOffset());
+    }
+
+}
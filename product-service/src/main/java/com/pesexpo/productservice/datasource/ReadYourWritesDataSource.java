@@ -0,0 +1,102 @@
+package com.pesexpo.productservice.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Primary side of the routing. A request that opens a read-write transaction stays on the primary
+ * for its remaining reads, so they see its own writes even while the replicas lag behind.
+ * <p>
+ * The client is also handed a {@value #PRIMARY_UNTIL_COOKIE} cookie holding the end of a window after
+ * the write. Its following requests read from the primary until then, long enough for any replica
+ * still in rotation to have replayed the write.
+ */
+public class ReadYourWritesDataSource extends DelegatingDataSource {
+
+    static final String PRIMARY_UNTIL_COOKIE = "primary-until";
+
+    private static final String PINNED_ATTRIBUTE = ReadYourWritesDataSource.class.getName() + ".PINNED";
+
+    private final Duration primaryWindow;
+
+    /**
+     * @param primary       the primary pool
+     * @param primaryWindow how long a client keeps reading from the primary after it wrote
+     */
+    public ReadYourWritesDataSource(DataSource primary, Duration primaryWindow) {
+        super(primary);
+        this.primaryWindow = primaryWindow;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        pinIfWriting();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        pinIfWriting();
+        return super.getConnection(username, password);
+    }
+
+    static boolean isPinnedToPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return false;
+        }
+        return attributes.getAttribute(PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null
+                || (attributes instanceof ServletRequestAttributes servletAttributes
+                && System.currentTimeMillis() < primaryUntil(servletAttributes.getRequest()));
+    }
+
+    private void pinIfWriting() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        // Only bound on request threads; scheduled jobs and executor tasks are not pinned
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null || attributes.getAttribute(PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+        attributes.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+
+        // Added now, while the response is not committed yet; the window starts just before the transaction commits
+        if (attributes instanceof ServletRequestAttributes servletAttributes && servletAttributes.getResponse() != null) {
+            Cookie cookie = new Cookie(PRIMARY_UNTIL_COOKIE,
+                    Long.toString(System.currentTimeMillis() + primaryWindow.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(primaryWindow.toSeconds(), 1));
+            servletAttributes.getResponse().addCookie(cookie);
+        }
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (PRIMARY_UNTIL_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
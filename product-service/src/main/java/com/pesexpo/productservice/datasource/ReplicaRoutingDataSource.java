@@ -0,0 +1,143 @@
+package com.pesexpo.productservice.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only side of the routing: connections go round-robin to the replicas whose last health check
+ * succeeded with a replication lag within {@code maxLag}. The primary serves them when no replica
+ * qualifies, for the rest of a request once it has written and for the client's requests within a
+ * short window after that (see {@link ReadYourWritesDataSource}).
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    // 0 when the replica has replayed everything it received, otherwise the age of the last replayed transaction
+    private static final String LAG_QUERY = """
+            select case
+                when not pg_is_in_recovery() or pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+            end
+            """;
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param primary      fallback target, already counted as the {@value #PRIMARY} target
+     * @param replicaPools connection pools of the replicas by name; statements on them are counted per
+     *                     replica, health checks run on the pools directly and are not
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicaPools, Duration maxLag,
+                                    MeterRegistry meterRegistry) {
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicaPools.forEach((name, pool) -> {
+            targets.put(name, new CountingDataSource(pool, name, meterRegistry));
+            Replica replica = new Replica(name, pool);
+            replicas.add(replica);
+            Gauge.builder("datasource.routing.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Replication lag seen by the last health check, NaN while unreachable")
+                    .baseUnit("seconds")
+                    .tag("target", name)
+                    .register(meterRegistry);
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReadYourWritesDataSource.isPinnedToPrimary() || replicas.isEmpty()) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.lagSeconds <= maxLagSeconds) {
+                return replica.name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    // Runs once at startup before any replica is used; until then reads stay on the primary
+    @Scheduled(fixedDelayString = "${datasource-routing.health-check-interval:5s}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try {
+                Double lag = replica.jdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+                recordCheck(replica.name, lag);
+            } catch (DataAccessException e) {
+                recordCheck(replica.name, null);
+                log.debug("Health check of replica {} failed", replica.name, e);
+            }
+        }
+    }
+
+    // lagSeconds is null when the replica could not be reached
+    void recordCheck(String name, Double lagSeconds) {
+        for (Replica replica : replicas) {
+            if (replica.name.equals(name)) {
+                double lag = lagSeconds != null ? lagSeconds : Double.NaN;
+                boolean wasUsable = replica.lagSeconds <= maxLagSeconds;
+                boolean usable = lag <= maxLagSeconds;
+                if (wasUsable != usable) {
+                    log.warn("Replica {} {} (lag {}s, max {}s)", name, usable ? "back in rotation" : "out of rotation",
+                            lagSeconds, maxLagSeconds);
+                }
+                replica.lagSeconds = lag;
+            }
+        }
+    }
+
+    // Inferred destroy method: the replica pools are not beans of their own
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.pool instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close pool of replica {}", replica.name, e);
+                }
+            }
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource pool;
+        private final JdbcTemplate jdbcTemplate;
+        // NaN (never usable) until the first successful check
+        private volatile double lagSeconds = Double.NaN;
+
+        private Replica(String name, DataSource pool) {
+            this.name = name;
+            this.pool = pool;
+            this.jdbcTemplate = new JdbcTemplate(pool);
+            this.jdbcTemplate.setQueryTimeout(2);
+        }
+    }
+}
@@ -6,8 +6,10 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Setter
 @Getter
@@ -16,11 +18,14 @@ import java.math.BigDecimal;
 @Entity
 @Table(name = "products")
 public class Product {
+    // Pooled sequence: ids are reserved 50 at a time, which keeps Hibernate insert batching enabled
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_id_seq")
+    @SequenceGenerator(name = "products_id_seq", sequenceName = "products_id_seq", allocationSize = 50)
     private Integer id;
 
-    @Column(nullable = false, unique = true)
+    @Convert(converter = UuidConverter.class)
+    @Column(nullable = false, unique = true, columnDefinition = "uuid")
     private String uuid;
 
     @Column(name = "product_name", nullable = false,length = 100)
@@ -29,4 +34,13 @@ public class Product {
     @Column(nullable = false)
     private BigDecimal price;
 
+    // Bumped on every update; doubles as the ETag of the product representation
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
 }
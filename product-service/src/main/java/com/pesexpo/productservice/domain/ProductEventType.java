@@ -0,0 +1,7 @@
+package com.pesexpo.productservice.domain;
+
+public enum ProductEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,81 @@
+package com.pesexpo.productservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A product change, written in the same transaction as the change itself.
+ * <p>
+ * {@code sequenceNumber} stays null until the relay publishes the event; it is then assigned
+ * gap-free in publish order, which is what consumers track as their offset.
+ */
+@Entity
+@Table(name = "product_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_outbox_id_seq")
+    @SequenceGenerator(name = "product_outbox_id_seq", sequenceName = "product_outbox_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Convert(converter = UuidConverter.class)
+    @Column(nullable = false, columnDefinition = "uuid")
+    private String productUuid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ProductEventType eventType;
+
+    // Product state after the change; null for DELETED
+    @Column(length = 100)
+    private String productName;
+
+    private BigDecimal price;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(unique = true)
+    private Long sequenceNumber;
+
+    private LocalDateTime publishedAt;
+
+    public static ProductOutboxEvent of(ProductEventType eventType, Product product) {
+        ProductOutboxEvent event = new ProductOutboxEvent();
+        event.setProductUuid(product.getUuid());
+        event.setEventType(eventType);
+        event.setProductName(product.getProductName());
+        event.setPrice(product.getPrice());
+        event.setCreatedAt(LocalDateTime.now());
+        return event;
+    }
+
+    // Updates are applied without loading the product, so only the changed fields are known; null means unchanged
+    public static ProductOutboxEvent updated(String productUuid, String productName, BigDecimal price) {
+        ProductOutboxEvent event = new ProductOutboxEvent();
+        event.setProductUuid(productUuid);
+        event.setEventType(ProductEventType.UPDATED);
+        event.setProductName(productName);
+        event.setPrice(price);
+        event.setCreatedAt(LocalDateTime.now());
+        return event;
+    }
+
+    public static ProductOutboxEvent deleted(String productUuid) {
+        ProductOutboxEvent event = new ProductOutboxEvent();
+        event.setProductUuid(productUuid);
+        event.setEventType(ProductEventType.DELETED);
+        event.setCreatedAt(LocalDateTime.now());
+        return event;
+    }
+}
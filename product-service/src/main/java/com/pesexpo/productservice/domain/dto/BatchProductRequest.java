@@ -0,0 +1,15 @@
+package com.pesexpo.productservice.domain.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchProductRequest(
+
+        @NotEmpty(message = "Product UUIDs can't be empty")
+        @Size(max = 1000, message = "At most 1000 product UUIDs per request")
+        List<String> uuids
+
+) {
+}
@@ -0,0 +1,16 @@
+package com.pesexpo.productservice.domain.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CreateProducts(
+
+        @NotEmpty(message = "Products can't be empty")
+        @Size(max = 5000, message = "At most 5000 products per request")
+        List<@Valid CreateProduct> products
+
+) {
+}
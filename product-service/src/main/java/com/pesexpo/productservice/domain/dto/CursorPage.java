@@ -0,0 +1,9 @@
+package com.pesexpo.productservice.domain.dto;
+
+import java.util.List;
+
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+}
@@ -0,0 +1,4 @@
+package com.pesexpo.productservice.domain.dto;
+
+public record EventOffset(long offset) {
+}
@@ -0,0 +1,23 @@
+package com.pesexpo.productservice.domain.dto;
+
+import com.pesexpo.productservice.domain.ProductEventType;
+import com.pesexpo.productservice.domain.ProductOutboxEvent;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// productName and price are null on DELETED, and on UPDATED when that field did not change
+public record ProductChangeEvent(
+        long sequenceNumber,
+        ProductEventType type,
+        String productUuid,
+        String productName,
+        BigDecimal price,
+        LocalDateTime occurredAt
+) {
+
+    public static ProductChangeEvent from(ProductOutboxEvent event) {
+        return new ProductChangeEvent(event.getSequenceNumber(), event.getEventType(), event.getProductUuid(),
+                event.getProductName(), event.getPrice(), event.getCreatedAt());
+    }
+}
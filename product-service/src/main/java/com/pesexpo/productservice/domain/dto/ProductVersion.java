@@ -0,0 +1,30 @@
+package com.pesexpo.productservice.domain.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public record ProductVersion(
+        Long version,
+        LocalDateTime updatedAt
+) {
+
+    public String etag() {
+        return "\"" + version + "\"";
+    }
+
+    // Version in a strong ETag produced by etag(), or null if the value is not one
+    public static Long parseEtag(String etag) {
+        if (etag.length() < 3 || !etag.startsWith("\"") || !etag.endsWith("\"")) {
+            return null;
+        }
+        try {
+            return Long.valueOf(etag.substring(1, etag.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public long lastModifiedMillis() {
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
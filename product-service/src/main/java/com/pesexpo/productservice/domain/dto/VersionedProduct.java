@@ -0,0 +1,8 @@
+package com.pesexpo.productservice.domain.dto;
+
+// A product together with the validators of the row it was read from
+public record VersionedProduct(
+        ResponseProduct product,
+        ProductVersion version
+) {
+}
@@ -0,0 +1,25 @@
+package com.pesexpo.productservice.outbox;
+
+import com.pesexpo.productservice.client.ProductEventClient;
+import com.pesexpo.productservice.domain.dto.ProductChangeEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Pushes each batch to order-service, which invalidates its product cache.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product-outbox.sink", havingValue = "http", matchIfMissing = true)
+public class HttpProductEventSink implements ProductEventSink {
+
+    private final ProductEventClient productEventClient;
+
+    @Override
+    public void publish(List<ProductChangeEvent> events) {
+        productEventClient.publish(events);
+    }
+}
@@ -0,0 +1,25 @@
+package com.pesexpo.productservice.outbox;
+
+import com.pesexpo.productservice.domain.dto.ProductChangeEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publishes each event as a Spring application event, for listeners in this JVM and for tests.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product-outbox.sink", havingValue = "in-process")
+public class InProcessProductEventSink implements ProductEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<ProductChangeEvent> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
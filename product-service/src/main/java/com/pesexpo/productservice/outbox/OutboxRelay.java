@@ -0,0 +1,112 @@
+package com.pesexpo.productservice.outbox;
+
+import com.pesexpo.productservice.config.OutboxProperties;
+import com.pesexpo.productservice.domain.ProductOutboxEvent;
+import com.pesexpo.productservice.domain.dto.ProductChangeEvent;
+import com.pesexpo.productservice.repository.ProductOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes outbox events to the {@link ProductEventSink} in batches.
+ * <p>
+ * Each batch is locked, numbered and published in one transaction: sequence numbers continue from
+ * the last published event, and a failed publish rolls them back so the retry reuses them. An
+ * advisory lock keeps a single instance publishing, which keeps the numbering gap-free.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final long RELAY_LOCK_KEY = "product-outbox-relay".hashCode();
+
+    private final ProductOutboxRepository outboxRepository;
+    private final ProductEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor taskExecutor;
+    private final OutboxProperties properties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    /**
+     * Called after a transaction that wrote events commits, so they go out without waiting for the poll.
+     */
+    public void wakeUp() {
+        taskExecutor.execute(this::relayPending);
+    }
+
+    @Scheduled(fixedDelayString = "${product-outbox.poll-interval:1s}")
+    public void relayPending() {
+        pending.set(true);
+        // A run already in progress picks up the pending flag before it releases
+        while (pending.get() && running.compareAndSet(false, true)) {
+            try {
+                while (pending.getAndSet(false)) {
+                    drain();
+                }
+            } finally {
+                running.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            int published;
+            do {
+                published = relayBatch();
+            } while (published == properties.batchSize());
+        } catch (RuntimeException e) {
+            // Unpublished events stay in the outbox for the next poll
+            log.warn("Product outbox relay stopped: {}", e.getMessage());
+        }
+    }
+
+    int relayBatch() {
+        Integer published = transactionTemplate.execute(status -> {
+            if (!outboxRepository.tryAdvisoryLock(RELAY_LOCK_KEY)) {
+                return 0;
+            }
+            List<ProductOutboxEvent> batch = outboxRepository.findBySequenceNumberIsNullOrderByIdAsc(Limit.of(properties.batchSize()));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            long sequenceNumber = outboxRepository.findMaxSequenceNumber();
+            LocalDateTime publishedAt = LocalDateTime.now();
+            List<ProductChangeEvent> events = new ArrayList<>(batch.size());
+            for (ProductOutboxEvent event : batch) {
+                event.setSequenceNumber(++sequenceNumber);
+                event.setPublishedAt(publishedAt);
+                events.add(ProductChangeEvent.from(event));
+            }
+
+            // Managed entities are flushed on commit, only if the sink accepted the batch
+            sink.publish(events);
+            return batch.size();
+        });
+        return published != null ? published : 0;
+    }
+
+    @Scheduled(fixedDelayString = "PT1H")
+    public void purgePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(properties.retention())));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} published product outbox events", deleted);
+        }
+    }
+}
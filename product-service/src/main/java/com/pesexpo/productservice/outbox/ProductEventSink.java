@@ -0,0 +1,17 @@
+package com.pesexpo.productservice.outbox;
+
+import com.pesexpo.productservice.domain.dto.ProductChangeEvent;
+
+import java.util.List;
+
+/**
+ * Destination of relayed product changes, selected with {@code product-outbox.sink}.
+ * <p>
+ * Events arrive in sequence order. Throwing leaves the whole batch unpublished, so it is offered
+ * again with the same sequence numbers; consumers must skip numbers they have already applied.
+ */
+public interface ProductEventSink {
+
+    void publish(List<ProductChangeEvent> events);
+
+}
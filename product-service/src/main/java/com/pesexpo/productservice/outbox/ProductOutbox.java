@@ -0,0 +1,54 @@
+package com.pesexpo.productservice.outbox;
+
+import com.pesexpo.productservice.domain.Product;
+import com.pesexpo.productservice.domain.ProductEventType;
+import com.pesexpo.productservice.domain.ProductOutboxEvent;
+import com.pesexpo.productservice.repository.ProductOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Records product changes in the outbox; must be called inside the transaction making the change.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductOutbox {
+
+    private final ProductOutboxRepository outboxRepository;
+    private final OutboxRelay relay;
+
+    public void record(ProductEventType eventType, Product product) {
+        recordAll(eventType, List.of(product));
+    }
+
+    public void recordAll(ProductEventType eventType, List<Product> products) {
+        outboxRepository.saveAll(products.stream()
+                .map(product -> ProductOutboxEvent.of(eventType, product))
+                .toList());
+        wakeRelayAfterCommit();
+    }
+
+    public void recordUpdated(String productUuid, String productName, BigDecimal price) {
+        outboxRepository.save(ProductOutboxEvent.updated(productUuid, productName, price));
+        wakeRelayAfterCommit();
+    }
+
+    public void recordDeleted(String productUuid) {
+        outboxRepository.save(ProductOutboxEvent.deleted(productUuid));
+        wakeRelayAfterCommit();
+    }
+
+    private void wakeRelayAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.wakeUp();
+            }
+        });
+    }
+}
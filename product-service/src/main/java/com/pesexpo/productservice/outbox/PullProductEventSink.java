@@ -0,0 +1,21 @@
+package com.pesexpo.productservice.outbox;
+
+import com.pesexpo.productservice.domain.dto.ProductChangeEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publishes nothing: numbered events are fetched by each order-service instance from
+ * {@code GET /api/v1/product-events}, so every instance sees all of them.
+ */
+@Component
+@ConditionalOnProperty(name = "product-outbox.sink", havingValue = "pull")
+public class PullProductEventSink implements ProductEventSink {
+
+    @Override
+    public void publish(List<ProductChangeEvent> events) {
+        // Committed with their sequence numbers by the relay transaction, which is all consumers need
+    }
+}
@@ -0,0 +1,38 @@
+package com.pesexpo.productservice.repository;
+
+import com.pesexpo.productservice.domain.ProductOutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ProductOutboxRepository extends JpaRepository<ProductOutboxEvent, Long> {
+
+    // Held until the transaction ends, so only one relay publishes at a time across instances
+    @Query(value = "select pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryLock(long key);
+
+    // Served by idx_product_outbox_unpublished
+    List<ProductOutboxEvent> findBySequenceNumberIsNullOrderByIdAsc(Limit limit);
+
+    // Pulled by consumers, served by the unique index on sequence_number
+    List<ProductOutboxEvent> findBySequenceNumberGreaterThanOrderBySequenceNumberAsc(Long sequenceNumber, Limit limit);
+
+    @Query("select coalesce(max(e.sequenceNumber), 0L) from ProductOutboxEvent e")
+    long findMaxSequenceNumber();
+
+    // The newest published event is kept so sequence numbers continue after a purge
+    @Modifying
+    @Query("""
+            delete from ProductOutboxEvent e
+            where e.publishedAt < :before
+              and e.sequenceNumber < (select max(p.sequenceNumber) from ProductOutboxEvent p)
+            """)
+    int deletePublishedBefore(LocalDateTime before);
+
+}
@@ -1,18 +1,57 @@
 package com.pesexpo.productservice.repository;
 
 import com.pesexpo.productservice.domain.Product;
+import com.pesexpo.productservice.domain.dto.ProductVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+// Queries run read-only (on a replica when routing is enabled) unless they join a read-write transaction
 @Repository
+@Transactional(readOnly = true)
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 
     Optional<Product> findByUuid(String uuid);
 
+    // Validators only: answers conditional GETs without loading the entity
+    @Query("select new com.pesexpo.productservice.domain.dto.ProductVersion(p.version, p.updatedAt) "
+            + "from Product p where p.uuid = :uuid")
+    Optional<ProductVersion> findVersionByUuid(String uuid);
+
+    List<Product> findByUuidIn(Collection<String> uuids);
+
+    // Keyset page: range scan on the primary key instead of an OFFSET scan
+    List<Product> findByIdGreaterThanOrderByIdAsc(Integer id, Limit limit);
+
     boolean existsByUuid(String uuid);
 
-    void deleteByUuid(String uuid);
+    // Single-statement writes returning the affected row count; 0 means the uuid is unknown or, when
+    // expectedVersion is given, the product changed since that version was read
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Product p set
+                p.productName = coalesce(:productName, p.productName),
+                p.price = coalesce(:price, p.price),
+                p.version = p.version + 1,
+                p.updatedAt = :updatedAt
+            where p.uuid = :uuid and (:expectedVersion is null or p.version = :expectedVersion)
+            """)
+    int updateByUuid(String uuid, String productName, BigDecimal price, LocalDateTime updatedAt, Long expectedVersion);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Product p where p.uuid = :uuid and (:expectedVersion is null or p.version = :expectedVersion)")
+    int deleteByUuid(String uuid, Long expectedVersion);
 
 }
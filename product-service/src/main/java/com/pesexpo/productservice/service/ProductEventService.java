@@ -0,0 +1,14 @@
+package com.pesexpo.productservice.service;
+
+import com.pesexpo.productservice.domain.dto.EventOffset;
+import com.pesexpo.productservice.domain.dto.ProductChangeEvent;
+
+import java.util.List;
+
+public interface ProductEventService {
+
+    List<ProductChangeEvent> findEventsAfter(long sequenceNumber, int limit);
+
+    EventOffset findLatestOffset();
+
+}
@@ -1,9 +1,13 @@
 package com.pesexpo.productservice.service;
 
 import com.pesexpo.productservice.client.dto.ProductOrdersResponse;
+import com.pesexpo.productservice.domain.dto.BatchItemResult;
 import com.pesexpo.productservice.domain.dto.CreateProduct;
+import com.pesexpo.productservice.domain.dto.CursorPage;
+import com.pesexpo.productservice.domain.dto.ProductVersion;
 import com.pesexpo.productservice.domain.dto.ResponseProduct;
 import com.pesexpo.productservice.domain.dto.UpdateProduct;
+import com.pesexpo.productservice.domain.dto.VersionedProduct;
 
 import java.util.List;
 
@@ -11,14 +15,24 @@ public interface ProductService {
 
     void createProduct(CreateProduct createProduct);
 
+    List<BatchItemResult> createProducts(List<CreateProduct> createProducts);
+
     ResponseProduct findById(String uuid);
 
-    List<ResponseProduct> findAll();
+    ProductVersion findVersion(String uuid);
+
+    VersionedProduct findVersionedById(String uuid);
+
+    CursorPage<ResponseProduct> findAll(String cursor, int limit);
+
+    List<ResponseProduct> findByUuids(List<String> uuids);
+
+    // expectedVersion is the version from the caller's If-Match ETag, null for an unconditional write
 
-    void updateProduct(String uuid, UpdateProduct updateProduct);
+    void updateProduct(String uuid, UpdateProduct updateProduct, Long expectedVersion);
 
-    void deleteProduct(String uuid);
+    void deleteProduct(String uuid, Long expectedVersion);
 
-    ProductOrdersResponse findProductWithOrders(String uuid);
+    ProductOrdersResponse findProductWithOrders(String uuid, boolean summary);
 
 }
@@ -0,0 +1,42 @@
+package com.pesexpo.productservice.service.impl;
+
+import com.pesexpo.productservice.domain.dto.EventOffset;
+import com.pesexpo.productservice.domain.dto.ProductChangeEvent;
+import com.pesexpo.productservice.repository.ProductOutboxRepository;
+import com.pesexpo.productservice.service.ProductEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Serves published outbox events to consumers that pull them, each from its own offset.
+ * <p>
+ * A relay batch is numbered and committed in one transaction, one batch at a time, so a reader
+ * always sees a gap-free prefix of the sequence.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductEventServiceImpl implements ProductEventService {
+
+    static final int MAX_EVENTS = 1000;
+
+    private final ProductOutboxRepository outboxRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductChangeEvent> findEventsAfter(long sequenceNumber, int limit) {
+        return outboxRepository.findBySequenceNumberGreaterThanOrderBySequenceNumberAsc(sequenceNumber,
+                        Limit.of(Math.clamp(limit, 1, MAX_EVENTS))).stream()
+                .map(ProductChangeEvent::from)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EventOffset findLatestOffset() {
+        return new EventOffset(outboxRepository.findMaxSequenceNumber());
+    }
+}
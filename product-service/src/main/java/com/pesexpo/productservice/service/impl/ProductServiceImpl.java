@@ -1,93 +1,202 @@
 package com.pesexpo.productservice.service.impl;
 
 import com.pesexpo.productservice.client.OrderClient;
-import com.pesexpo.productservice.client.dto.OrderResponse;
 import com.pesexpo.productservice.client.dto.ProductOrdersResponse;
+import com.pesexpo.productservice.config.ProductOrdersProperties;
 import com.pesexpo.productservice.domain.Product;
+import com.pesexpo.productservice.domain.ProductEventType;
+import com.pesexpo.productservice.domain.Uuids;
+import com.pesexpo.productservice.domain.dto.BatchItemResult;
 import com.pesexpo.productservice.domain.dto.CreateProduct;
+import com.pesexpo.productservice.domain.dto.CursorPage;
+import com.pesexpo.productservice.domain.dto.ProductVersion;
 import com.pesexpo.productservice.domain.dto.ResponseProduct;
 import com.pesexpo.productservice.domain.dto.UpdateProduct;
+import com.pesexpo.productservice.domain.dto.VersionedProduct;
+import com.pesexpo.productservice.outbox.ProductOutbox;
 import com.pesexpo.productservice.repository.ProductRepository;
 import com.pesexpo.productservice.service.ProductService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
 
 @Service
 @RequiredArgsConstructor
 public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductOutbox productOutbox;
     private final OrderClient orderClient;
+    private final ExecutorService productOrdersExecutor;
+    private final ProductOrdersProperties productOrdersProperties;
     private static final String PRODUCT_NOT_FOUND_WITH_UUID = "Product not found with uuid: ";
 
     @Override
     @Transactional
     public void createProduct(CreateProduct createProduct) {
+        Product product = newProduct(createProduct);
+        productRepository.save(product);
+        productOutbox.record(ProductEventType.CREATED, product);
+    }
+
+    @Override
+    @Transactional
+    public List<BatchItemResult> createProducts(List<CreateProduct> createProducts) {
+        List<Product> products = new ArrayList<>(createProducts.size());
+        List<BatchItemResult> results = new ArrayList<>(createProducts.size());
+        for (int index = 0; index < createProducts.size(); index++) {
+            Product product = newProduct(createProducts.get(index));
+            products.add(product);
+            results.add(BatchItemResult.created(index, product.getUuid()));
+        }
+
+        // Flushed as JDBC batches (hibernate.jdbc.batch_size) with pooled sequence ids
+        productRepository.saveAll(products);
+        productOutbox.recordAll(ProductEventType.CREATED, products);
+        return results;
+    }
+
+    private static Product newProduct(CreateProduct createProduct) {
         Product product = new Product();
-        product.setUuid(UUID.randomUUID().toString());
+        product.setUuid(Uuids.timeOrdered().toString());
         product.setProductName(createProduct.productName());
         product.setPrice(createProduct.price());
-
-        productRepository.save(product);
+        return product;
     }
 
     @Override
     public ResponseProduct findById(String uuid) {
-        Product product = productRepository.findByUuid(uuid)
+        return mapToResponseProduct(findProduct(uuid));
+    }
+
+    @Override
+    public ProductVersion findVersion(String uuid) {
+        return productRepository.findVersionByUuid(uuid)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, PRODUCT_NOT_FOUND_WITH_UUID + uuid));
+    }
+
+    @Override
+    public VersionedProduct findVersionedById(String uuid) {
+        Product product = findProduct(uuid);
+        return new VersionedProduct(mapToResponseProduct(product), new ProductVersion(product.getVersion(), product.getUpdatedAt()));
+    }
+
+    private Product findProduct(String uuid) {
+        return productRepository.findByUuid(uuid)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, PRODUCT_NOT_FOUND_WITH_UUID + uuid));
+    }
+
+    @Override
+    public CursorPage<ResponseProduct> findAll(String cursor, int limit) {
+        int pageSize = Cursors.clampLimit(limit);
+
+        // Fetch one extra row to know whether another page follows
+        List<Product> products = productRepository.findByIdGreaterThanOrderByIdAsc(Cursors.decode(cursor), Limit.of(pageSize + 1));
+        boolean hasNext = products.size() > pageSize;
+        List<Product> page = hasNext ? products.subList(0, pageSize) : products;
 
-        return mapToResponseProduct(product);
+        String nextCursor = hasNext ? Cursors.encode(page.get(page.size() - 1).getId()) : null;
+        return new CursorPage<>(page.stream().map(this::mapToResponseProduct).toList(), nextCursor);
     }
 
     @Override
-    public List<ResponseProduct> findAll() {
-        return productRepository.findAll().stream()
+    public List<ResponseProduct> findByUuids(List<String> uuids) {
+        // Single IN query; unknown uuids are simply absent from the result
+        return productRepository.findByUuidIn(uuids.stream().distinct().toList()).stream()
                 .map(this::mapToResponseProduct)
                 .toList();
     }
 
     @Override
     @Transactional
-    public void updateProduct(String uuid, UpdateProduct updateProduct) {
-        Product product = productRepository.findByUuid(uuid)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, PRODUCT_NOT_FOUND_WITH_UUID + uuid));
-
-        if (updateProduct.productName() != null) {
-            product.setProductName(updateProduct.productName());
-        }
-        if (updateProduct.price() != null) {
-            product.setPrice(updateProduct.price());
+    public void updateProduct(String uuid, UpdateProduct updateProduct, Long expectedVersion) {
+        int updated = productRepository.updateByUuid(uuid, updateProduct.productName(), updateProduct.price(),
+                LocalDateTime.now(), expectedVersion);
+        if (updated == 0) {
+            throw writeFailed(uuid, expectedVersion);
         }
-
-        productRepository.save(product);
+        productOutbox.recordUpdated(uuid, updateProduct.productName(), updateProduct.price());
     }
 
     @Override
     @Transactional
-    public void deleteProduct(String uuid) {
-        if (!productRepository.existsByUuid(uuid)) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, PRODUCT_NOT_FOUND_WITH_UUID + uuid);
+    public void deleteProduct(String uuid, Long expectedVersion) {
+        if (productRepository.deleteByUuid(uuid, expectedVersion) == 0) {
+            throw writeFailed(uuid, expectedVersion);
         }
-        productRepository.deleteByUuid(uuid);
+        productOutbox.recordDeleted(uuid);
+    }
+
+    // Only a failed conditional write pays for a second query, to tell a stale version from a missing product
+    private ResponseStatusException writeFailed(String uuid, Long expectedVersion) {
+        if (expectedVersion != null && productRepository.existsByUuid(uuid)) {
+            return new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Product was modified since version " + expectedVersion);
+        }
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, PRODUCT_NOT_FOUND_WITH_UUID + uuid);
     }
 
     @Override
-    public ProductOrdersResponse findProductWithOrders(String uuid) {
-        ResponseProduct product = findById(uuid);
+    public ProductOrdersResponse findProductWithOrders(String uuid, boolean summary) {
+        // Summary ships order-service's maintained stats row instead of every order
+        if (summary) {
+            return withOrderData(uuid, () -> orderClient.findOrderStatsByProductUuid(uuid),
+                    (product, stats) -> ProductOrdersResponse.builder().product(product).stats(stats).build());
+        }
+        return withOrderData(uuid, () -> orderClient.findOrdersByProductUuid(uuid),
+                (product, orders) -> ProductOrdersResponse.builder().product(product).orders(orders).build());
+    }
 
-        // Fetch orders from order-service for this specific product
-        List<OrderResponse> productOrders = orderClient.findOrdersByProductUuid(uuid);
+    private <T> ProductOrdersResponse withOrderData(String uuid, Callable<T> orderCall,
+                                                    BiFunction<ResponseProduct, T, ProductOrdersResponse> combine) {
+        // Both branches run concurrently, each against its own deadline, so latency tracks the slower of the two
+        long startNanos = System.nanoTime();
+        Future<ResponseProduct> productFuture = productOrdersExecutor.submit(() -> findById(uuid));
+        Future<T> ordersFuture = productOrdersExecutor.submit(orderCall);
+
+        try {
+            // A missing product throws here, skipping the wait and cancelling the remote call below
+            ResponseProduct product = await(productFuture, startNanos,
+                    productOrdersProperties.productTimeout(), "Product lookup timed out");
+            T orderData = await(ordersFuture, startNanos,
+                    productOrdersProperties.ordersTimeout(), "Order service timed out");
+
+            return combine.apply(product, orderData);
+        } finally {
+            productFuture.cancel(true);
+            ordersFuture.cancel(true);
+        }
+    }
 
-        return ProductOrdersResponse.builder()
-                .product(product)
-                .orders(productOrders)
-                .build();
+    private <T> T await(Future<T> future, long startNanos, Duration timeout, String timeoutMessage) {
+        long remainingNanos = timeout.toNanos() - (System.nanoTime() - startNanos);
+        try {
+            return future.get(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, timeoutMessage);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Request interrupted");
+        }
     }
 
     private ResponseProduct mapToResponseProduct(Product product) {
@@ -0,0 +1,24 @@
+-- Baseline products schema. Written to be re-runnable over databases that ddl-auto created before
+-- migrations existed (adopted at baseline version 0). uuid lookups use the unique constraint and
+-- keyset pages the primary key, so no further indexes are needed.
+
+-- Pooled id sequence (allocationSize = 50); an existing identity-backing sequence is reused
+CREATE SEQUENCE IF NOT EXISTS products_id_seq INCREMENT BY 50;
+ALTER SEQUENCE products_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS products (
+    id           integer        NOT NULL PRIMARY KEY,
+    uuid         uuid           NOT NULL UNIQUE,
+    product_name varchar(100)   NOT NULL,
+    price        numeric(38, 2) NOT NULL
+);
+
+-- uuid used to be varchar; existing v4 strings convert in place
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+               FROM information_schema.columns
+               WHERE table_name = 'products' AND column_name = 'uuid' AND data_type <> 'uuid') THEN
+        ALTER TABLE products ALTER COLUMN uuid TYPE uuid USING uuid::uuid;
+    END IF;
+END $$;
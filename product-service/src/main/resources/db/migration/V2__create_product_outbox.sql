@@ -0,0 +1,19 @@
+-- Product change events written with the change and published by OutboxRelay
+CREATE SEQUENCE IF NOT EXISTS product_outbox_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS product_outbox (
+    id              bigint         NOT NULL PRIMARY KEY,
+    product_uuid    uuid           NOT NULL,
+    event_type      varchar(20)    NOT NULL CHECK (event_type IN ('CREATED', 'UPDATED', 'DELETED')),
+    product_name    varchar(100),
+    price           numeric(38, 2),
+    created_at      timestamp(6)   NOT NULL,
+    sequence_number bigint UNIQUE,
+    published_at    timestamp(6)
+);
+
+-- The relay polls for unpublished events in write order; published rows drop out of the index
+CREATE INDEX IF NOT EXISTS idx_product_outbox_unpublished ON product_outbox (id) WHERE sequence_number IS NULL;
+
+-- Retention purge
+CREATE INDEX IF NOT EXISTS idx_product_outbox_published_at ON product_outbox (published_at);
@@ -0,0 +1,3 @@
+-- Optimistic-lock version and modification time, exposed as ETag / Last-Modified
+ALTER TABLE products ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE products ADD COLUMN IF NOT EXISTS updated_at timestamp(6) NOT NULL DEFAULT now();
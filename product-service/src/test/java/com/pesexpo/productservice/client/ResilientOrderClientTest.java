@@ -0,0 +1,56 @@
+package com.pesexpo.productservice.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientOrderClientTest {
+
+    @Mock
+    private OrderClient delegate;
+
+    private CircuitBreaker circuitBreaker;
+    private ResilientOrderClient orderClient;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.of("order-service", CircuitBreakerConfig.ofDefaults());
+        orderClient = new ResilientOrderClient(delegate, circuitBreaker, Bulkhead.of("order-service", BulkheadConfig.ofDefaults()));
+    }
+
+    @Test
+    @DisplayName("Should pass calls through while the breaker is closed")
+    void shouldPassCallsThroughWhenClosed() {
+        when(delegate.findOrdersByProductUuid("prod-1")).thenReturn(List.of());
+
+        assertThat(orderClient.findOrdersByProductUuid("prod-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fail fast with service unavailable while the breaker is open")
+    void shouldFailFastWhenOpen() {
+        circuitBreaker.transitionToOpenState();
+
+        assertThatThrownBy(() -> orderClient.findOrdersByProductUuid("prod-1"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        verify(delegate, never()).findOrdersByProductUuid(any());
+    }
+}
@@ -1,8 +1,13 @@
 package com.pesexpo.productservice.controller;
 
 import com.pesexpo.productservice.client.dto.OrderResponse;
+import com.pesexpo.productservice.client.dto.OrderStatsResponse;
 import com.pesexpo.productservice.client.dto.ProductOrdersResponse;
+import com.pesexpo.productservice.domain.dto.BatchItemResult;
+import com.pesexpo.productservice.domain.dto.CursorPage;
+import com.pesexpo.productservice.domain.dto.ProductVersion;
 import com.pesexpo.productservice.domain.dto.ResponseProduct;
+import com.pesexpo.productservice.domain.dto.VersionedProduct;
 import com.pesexpo.productservice.service.ProductService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,11 +28,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @WebMvcTest(ProductController.class)
@@ -50,6 +58,19 @@ class ProductControllerTest {
                 .andExpect(content().string("Product created successfully"));
     }
 
+    @Test
+    void shouldCreateProductsInBulk() throws Exception {
+        when(productService.createProducts(org.mockito.ArgumentMatchers.anyList()))
+                .thenReturn(List.of(BatchItemResult.created(0, "prod-1"), BatchItemResult.created(1, "prod-2")));
+
+        mockMvc.perform(post("/api/v1/products/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"products\":[{\"productName\":\"A\",\"price\":1.00},{\"productName\":\"B\",\"price\":2.00}]}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].uuid").value("prod-2"));
+    }
+
     @Test
     void shouldGetAllProducts() throws Exception {
         ResponseProduct response = ResponseProduct.builder()
@@ -57,14 +78,39 @@ class ProductControllerTest {
                 .productName("Widget")
                 .price(new BigDecimal("9.99"))
                 .build();
-        when(productService.findAll()).thenReturn(List.of(response));
+        when(productService.findAll("abc", 20)).thenReturn(new CursorPage<>(List.of(response), null));
 
-        mockMvc.perform(get("/api/v1/products"))
+        mockMvc.perform(get("/api/v1/products").param("cursor", "abc").param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].uuid").value("prod-1"));
+    }
+
+    @Test
+    void shouldGetProductsByUuids() throws Exception {
+        ResponseProduct response = ResponseProduct.builder()
+                .uuid("prod-1")
+                .productName("Widget")
+                .price(new BigDecimal("9.99"))
+                .build();
+        when(productService.findByUuids(List.of("prod-1", "prod-2"))).thenReturn(List.of(response));
+
+        mockMvc.perform(post("/api/v1/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"uuids\":[\"prod-1\",\"prod-2\"]}"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].uuid").value("prod-1"));
     }
 
+    @Test
+    void shouldRejectEmptyBatchRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"uuids\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldGetProductById() throws Exception {
         ResponseProduct response = ResponseProduct.builder()
@@ -72,26 +118,70 @@ class ProductControllerTest {
                 .productName("Widget")
                 .price(new BigDecimal("9.99"))
                 .build();
-        when(productService.findById("prod-1")).thenReturn(response);
+        when(productService.findVersionedById("prod-1"))
+                .thenReturn(new VersionedProduct(response, new ProductVersion(3L, LocalDateTime.of(2024, 1, 1, 10, 0))));
 
         mockMvc.perform(get("/api/v1/products/{uuid}", "prod-1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(header().exists("Last-Modified"))
                 .andExpect(jsonPath("$.uuid").value("prod-1"));
+
+        // Unconditional GET: a single read of the product
+        verify(productService, never()).findVersion("prod-1");
+        verify(productService, never()).findById("prod-1");
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenEtagMatches() throws Exception {
+        when(productService.findVersion("prod-1")).thenReturn(new ProductVersion(3L, LocalDateTime.of(2024, 1, 1, 10, 0)));
+
+        mockMvc.perform(get("/api/v1/products/{uuid}", "prod-1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+
+        verify(productService, never()).findById("prod-1");
+    }
+
+    @Test
+    void shouldReturnBodyWhenEtagIsStale() throws Exception {
+        ResponseProduct response = ResponseProduct.builder()
+                .uuid("prod-1")
+                .productName("Widget")
+                .price(new BigDecimal("10.99"))
+                .build();
+        when(productService.findVersion("prod-1")).thenReturn(new ProductVersion(4L, LocalDateTime.of(2024, 1, 2, 10, 0)));
+        when(productService.findById("prod-1")).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/products/{uuid}", "prod-1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.price").value(10.99));
     }
 
     @Test
     void shouldReturnNotFoundForMissingProduct() throws Exception {
         doThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Product not found"))
-                .when(productService).findById("missing");
+                .when(productService).findVersionedById("missing");
 
         mockMvc.perform(get("/api/v1/products/{uuid}", "missing"))
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void shouldReturnNotFoundForMissingProductOnRevalidation() throws Exception {
+        doThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Product not found"))
+                .when(productService).findVersion("missing");
+
+        mockMvc.perform(get("/api/v1/products/{uuid}", "missing").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void shouldUpdateProduct() throws Exception {
         doNothing().when(productService).updateProduct(org.mockito.ArgumentMatchers.eq("prod-1"),
-                org.mockito.ArgumentMatchers.any());
+                org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.isNull());
 
         mockMvc.perform(put("/api/v1/products/{uuid}", "prod-1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -100,18 +190,50 @@ class ProductControllerTest {
                 .andExpect(content().string("Product updated successfully"));
 
         verify(productService).updateProduct(org.mockito.ArgumentMatchers.eq("prod-1"),
-                org.mockito.ArgumentMatchers.any());
+                org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.isNull());
+    }
+
+    @Test
+    void shouldPassIfMatchVersionToUpdate() throws Exception {
+        mockMvc.perform(put("/api/v1/products/{uuid}", "prod-1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\":12.00}"))
+                .andExpect(status().isOk());
+
+        verify(productService).updateProduct(org.mockito.ArgumentMatchers.eq("prod-1"),
+                org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.eq(3L));
+    }
+
+    @Test
+    void shouldRejectUpdateWithForeignIfMatch() throws Exception {
+        mockMvc.perform(put("/api/v1/products/{uuid}", "prod-1")
+                        .header("If-Match", "W/\"abc\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\":12.00}"))
+                .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void shouldReturnPreconditionFailedForStaleVersion() throws Exception {
+        doThrow(new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Product was modified since version 3"))
+                .when(productService).deleteProduct("prod-1", 3L);
+
+        mockMvc.perform(delete("/api/v1/products/{uuid}", "prod-1").header("If-Match", "\"3\""))
+                .andExpect(status().isPreconditionFailed());
     }
 
     @Test
     void shouldDeleteProduct() throws Exception {
-        doNothing().when(productService).deleteProduct("prod-1");
+        doNothing().when(productService).deleteProduct("prod-1", null);
 
         mockMvc.perform(delete("/api/v1/products/{uuid}", "prod-1"))
                 .andExpect(status().isOk())
                 .andExpect(content().string("Product deleted successfully"));
 
-        verify(productService).deleteProduct("prod-1");
+        verify(productService).deleteProduct("prod-1", null);
     }
 
     @Test
@@ -133,7 +255,7 @@ class ProductControllerTest {
                 .product(product)
                 .orders(List.of(order))
                 .build();
-        when(productService.findProductWithOrders("prod-1")).thenReturn(response);
+        when(productService.findProductWithOrders("prod-1", false)).thenReturn(response);
 
         mockMvc.perform(get("/api/v1/products/{uuid}/orders", "prod-1"))
                 .andExpect(status().isOk())
@@ -141,4 +263,24 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.orders", hasSize(1)))
                 .andExpect(jsonPath("$.orders[0].uuid").value("order-1"));
     }
+
+    @Test
+    void shouldReturnProductWithOrderStatsInSummaryMode() throws Exception {
+        ResponseProduct product = ResponseProduct.builder()
+                .uuid("prod-1")
+                .productName("Product")
+                .price(new BigDecimal("9.99"))
+                .build();
+        ProductOrdersResponse response = ProductOrdersResponse.builder()
+                .product(product)
+                .stats(new OrderStatsResponse("prod-1", 4, 9, new BigDecimal("89.91"), LocalDateTime.of(2024, 1, 1, 10, 0)))
+                .build();
+        when(productService.findProductWithOrders("prod-1", true)).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/products/{uuid}/orders", "prod-1").param("summary", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stats.orderCount").value(4))
+                .andExpect(jsonPath("$.stats.totalQuantity").value(9))
+                .andExpect(jsonPath("$.orders").doesNotExist());
+    }
 }
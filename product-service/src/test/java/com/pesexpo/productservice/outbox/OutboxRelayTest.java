@@ -0,0 +1,115 @@
+package com.pesexpo.productservice.outbox;
+
+import com.pesexpo.productservice.config.OutboxProperties;
+import com.pesexpo.productservice.domain.Product;
+import com.pesexpo.productservice.domain.ProductEventType;
+import com.pesexpo.productservice.domain.ProductOutboxEvent;
+import com.pesexpo.productservice.domain.dto.ProductChangeEvent;
+import com.pesexpo.productservice.repository.ProductOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private ProductOutboxRepository outboxRepository;
+
+    @Mock
+    private ProductEventSink sink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private AsyncTaskExecutor taskExecutor;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        OutboxProperties properties = new OutboxProperties("in-process", 2, Duration.ofSeconds(1), Duration.ofDays(7));
+        relay = new OutboxRelay(outboxRepository, sink, new TransactionTemplate(transactionManager), taskExecutor, properties);
+    }
+
+    @Test
+    @DisplayName("Should number events after the last published one and publish them in order")
+    @SuppressWarnings("unchecked")
+    void shouldNumberAndPublishInOrder() {
+        ProductOutboxEvent created = ProductOutboxEvent.of(ProductEventType.CREATED, product("prod-1"));
+        ProductOutboxEvent deleted = ProductOutboxEvent.deleted("prod-2");
+        when(outboxRepository.tryAdvisoryLock(anyLong())).thenReturn(true);
+        when(outboxRepository.findBySequenceNumberIsNullOrderByIdAsc(Limit.of(2))).thenReturn(List.of(created, deleted));
+        when(outboxRepository.findMaxSequenceNumber()).thenReturn(41L);
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        ArgumentCaptor<List<ProductChangeEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(sink).publish(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).extracting(ProductChangeEvent::sequenceNumber).containsExactly(42L, 43L);
+        assertThat(eventsCaptor.getValue()).extracting(ProductChangeEvent::productUuid).containsExactly("prod-1", "prod-2");
+        assertThat(created.getPublishedAt()).isNotNull();
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should roll back the numbering when the sink fails")
+    void shouldRollBackWhenSinkFails() {
+        ProductOutboxEvent created = ProductOutboxEvent.of(ProductEventType.CREATED, product("prod-1"));
+        when(outboxRepository.tryAdvisoryLock(anyLong())).thenReturn(true);
+        when(outboxRepository.findBySequenceNumberIsNullOrderByIdAsc(Limit.of(2))).thenReturn(List.of(created));
+        doThrow(new IllegalStateException("order-service down")).when(sink).publish(any());
+
+        relay.relayPending();
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should skip the batch while another instance holds the relay lock")
+    void shouldSkipWhenLockHeldElsewhere() {
+        when(outboxRepository.tryAdvisoryLock(anyLong())).thenReturn(false);
+
+        assertThat(relay.relayBatch()).isZero();
+
+        verify(outboxRepository, never()).findBySequenceNumberIsNullOrderByIdAsc(any());
+        verifyNoInteractions(sink);
+    }
+
+    @Test
+    @DisplayName("Should keep relaying while batches come back full")
+    void shouldDrainFullBatches() {
+        when(outboxRepository.tryAdvisoryLock(anyLong())).thenReturn(true);
+        when(outboxRepository.findBySequenceNumberIsNullOrderByIdAsc(Limit.of(2)))
+                .thenReturn(List.of(ProductOutboxEvent.deleted("prod-1"), ProductOutboxEvent.deleted("prod-2")))
+                .thenReturn(List.of(ProductOutboxEvent.deleted("prod-3")));
+
+        relay.relayPending();
+
+        verify(sink, times(2)).publish(any());
+    }
+
+    private static Product product(String uuid) {
+        return new Product(1, uuid, "Widget", new BigDecimal("9.99"), 0L, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,135 @@
+package com.pesexpo.productservice.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the migrations against PostgreSQL and checks the plan of each {@link ProductRepository} query.
+ * The SQL is the statement Hibernate generates for the repository method, captured by {@link SqlCapture}
+ * and explained with the same typed bind parameters, over a table seeded and analyzed with enough rows
+ * that the planner only picks an index when it pays off.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.pesexpo.productservice.repository.SqlCapture")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ProductRepositoryIndexTest {
+
+    private static final int SEEDED_PRODUCTS = 100_000;
+
+    private static final UUID UNKNOWN = UUID.fromString("0190a6e0-0000-7000-8000-000000000000");
+    private static final UUID OTHER_UNKNOWN = UUID.fromString("0190a6e0-0000-7000-8000-00000000000f");
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    // Outside the test transaction, so the rows are committed and VACUUM can run
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO products (id, uuid, product_name, price, version, updated_at)
+                SELECT g, gen_random_uuid(), 'Product ' || g, 10.00, 0, timestamp '2024-01-01' + g * interval '1 minute'
+                FROM generate_series(1001, 1000 + ?) g
+                """, SEEDED_PRODUCTS);
+        jdbcTemplate.execute("VACUUM ANALYZE products");
+    }
+
+    private String explain(Runnable repositoryCall, Object... parameters) {
+        String sql = SqlCapture.lastStatementOf(repositoryCall);
+        assertThat(sql.chars().filter(c -> c == '?').count()).as("bind parameters of %s", sql).isEqualTo(parameters.length);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters));
+    }
+
+    @Test
+    @DisplayName("findByUuid and findVersionByUuid use the uuid unique index")
+    void findByUuid() {
+        for (String plan : List.of(
+                explain(() -> productRepository.findByUuid(UNKNOWN.toString()), UNKNOWN),
+                explain(() -> productRepository.findVersionByUuid(UNKNOWN.toString()), UNKNOWN))) {
+            assertThat(plan).contains("products_uuid_key").doesNotContain("Seq Scan on products");
+        }
+    }
+
+    @Test
+    @DisplayName("existsByUuid uses the uuid unique index")
+    void existsByUuid() {
+        String plan = explain(() -> productRepository.existsByUuid(UNKNOWN.toString()), UNKNOWN, 1);
+
+        assertThat(plan).contains("products_uuid_key").doesNotContain("Seq Scan on products");
+    }
+
+    @Test
+    @DisplayName("findByUuidIn uses the uuid unique index")
+    void findByUuidIn() {
+        String plan = explain(() -> productRepository.findByUuidIn(List.of(UNKNOWN.toString(), OTHER_UNKNOWN.toString())),
+                UNKNOWN, OTHER_UNKNOWN);
+
+        assertThat(plan).contains("products_uuid_key").doesNotContain("Seq Scan on products");
+    }
+
+    @Test
+    @DisplayName("findByIdGreaterThanOrderByIdAsc walks the primary key")
+    void findByIdGreaterThan() {
+        String plan = explain(() -> productRepository.findByIdGreaterThanOrderByIdAsc(50_000, Limit.of(51)), 50_000, 51);
+
+        assertThat(plan).contains("products_pkey").doesNotContain("Seq Scan on products", "Sort");
+    }
+
+    @Test
+    @DisplayName("updateByUuid and deleteByUuid use the uuid unique index")
+    void conditionalWritesPlan() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 6, 1, 0, 0);
+        BigDecimal price = new BigDecimal("10.99");
+
+        for (String plan : List.of(
+                explain(() -> productRepository.updateByUuid(UNKNOWN.toString(), "Gadget", price, updatedAt, 3L),
+                        "Gadget", price, updatedAt, UNKNOWN, 3L, 3L),
+                explain(() -> productRepository.deleteByUuid(UNKNOWN.toString(), 3L), UNKNOWN, 3L, 3L))) {
+            assertThat(plan).contains("products_uuid_key").doesNotContain("Seq Scan on products");
+        }
+    }
+
+    @Test
+    @DisplayName("updateByUuid and deleteByUuid only touch the expected version and bump it on update")
+    void conditionalWrites() {
+        String uuid = "0190a6e0-0000-7000-8000-000000000001";
+        jdbcTemplate.update("INSERT INTO products (id, uuid, product_name, price, version) VALUES (1, ?::uuid, 'Widget', 9.99, 3)", uuid);
+
+        assertThat(productRepository.updateByUuid(uuid, null, new BigDecimal("10.99"), LocalDateTime.now(), 2L)).isZero();
+        assertThat(productRepository.updateByUuid(uuid, null, new BigDecimal("10.99"), LocalDateTime.now(), 3L)).isEqualTo(1);
+        assertThat(productRepository.updateByUuid("not-a-uuid", "Gadget", null, LocalDateTime.now(), null)).isZero();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT product_name, price, version FROM products WHERE id = 1");
+        assertThat(row.get("product_name")).isEqualTo("Widget");
+        assertThat((BigDecimal) row.get("price")).isEqualByComparingTo("10.99");
+        assertThat(row.get("version")).isEqualTo(4L);
+
+        assertThat(productRepository.deleteByUuid(uuid, 3L)).isZero();
+        assertThat(productRepository.deleteByUuid(uuid, null)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,31 @@
+package com.pesexpo.productservice.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records the SQL Hibernate prepares, so index tests can EXPLAIN exactly what a repository method runs.
+ * Registered through {@code hibernate.session_factory.statement_inspector}.
+ */
+public class SqlCapture implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    // The last statement prepared while the call ran
+    static String lastStatementOf(Runnable call) {
+        STATEMENTS.clear();
+        call.run();
+        assertThat(STATEMENTS).as("statements prepared by the repository call").isNotEmpty();
+        return STATEMENTS.get(STATEMENTS.size() - 1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.pesexpo.productservice.service.impl;
+
+import com.pesexpo.productservice.domain.ProductEventType;
+import com.pesexpo.productservice.domain.ProductOutboxEvent;
+import com.pesexpo.productservice.domain.dto.ProductChangeEvent;
+import com.pesexpo.productservice.repository.ProductOutboxRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductEventServiceImplTest {
+
+    @Mock
+    private ProductOutboxRepository outboxRepository;
+
+    @InjectMocks
+    private ProductEventServiceImpl productEventService;
+
+    @Test
+    @DisplayName("Should return published events after the offset as change events")
+    void shouldReturnEventsAfterOffset() {
+        ProductOutboxEvent deleted = ProductOutboxEvent.deleted("prod-1");
+        deleted.setSequenceNumber(11L);
+        when(outboxRepository.findBySequenceNumberGreaterThanOrderBySequenceNumberAsc(10L, Limit.of(500)))
+                .thenReturn(List.of(deleted));
+
+        List<ProductChangeEvent> events = productEventService.findEventsAfter(10, 500);
+
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.sequenceNumber()).isEqualTo(11);
+            assertThat(event.type()).isEqualTo(ProductEventType.DELETED);
+            assertThat(event.productUuid()).isEqualTo("prod-1");
+        });
+    }
+
+    @Test
+    @DisplayName("Should cap the number of events per request")
+    void shouldCapLimit() {
+        productEventService.findEventsAfter(0, 1_000_000);
+
+        verify(outboxRepository).findBySequenceNumberGreaterThanOrderBySequenceNumberAsc(0L,
+                Limit.of(ProductEventServiceImpl.MAX_EVENTS));
+    }
+}
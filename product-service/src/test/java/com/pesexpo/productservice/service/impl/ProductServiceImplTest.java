@@ -2,32 +2,47 @@ package com.pesexpo.productservice.service.impl;
 
 import com.pesexpo.productservice.client.OrderClient;
 import com.pesexpo.productservice.client.dto.OrderResponse;
+import com.pesexpo.productservice.client.dto.OrderStatsResponse;
 import com.pesexpo.productservice.client.dto.ProductOrdersResponse;
+import com.pesexpo.productservice.config.ProductOrdersProperties;
 import com.pesexpo.productservice.domain.Product;
+import com.pesexpo.productservice.domain.ProductEventType;
+import com.pesexpo.productservice.domain.dto.BatchItemResult;
 import com.pesexpo.productservice.domain.dto.CreateProduct;
+import com.pesexpo.productservice.domain.dto.CursorPage;
+import com.pesexpo.productservice.domain.dto.ProductVersion;
 import com.pesexpo.productservice.domain.dto.ResponseProduct;
 import com.pesexpo.productservice.domain.dto.UpdateProduct;
+import com.pesexpo.productservice.domain.dto.VersionedProduct;
+import com.pesexpo.productservice.outbox.ProductOutbox;
 import com.pesexpo.productservice.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,10 +51,14 @@ class ProductServiceImplTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductOutbox productOutbox;
+
     @Mock
     private OrderClient orderClient;
 
-    @InjectMocks
+    private final ExecutorService productOrdersExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
     private ProductServiceImpl productService;
 
     private Product testProduct;
@@ -47,6 +66,7 @@ class ProductServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        productService = newProductService(Duration.ofSeconds(1), Duration.ofSeconds(2));
         testProduct = new Product();
         testProduct.setId(1);
         testProduct.setUuid(TEST_UUID);
@@ -54,6 +74,16 @@ class ProductServiceImplTest {
         testProduct.setPrice(new BigDecimal("99.99"));
     }
 
+    @AfterEach
+    void tearDown() {
+        productOrdersExecutor.shutdownNow();
+    }
+
+    private ProductServiceImpl newProductService(Duration productTimeout, Duration ordersTimeout) {
+        return new ProductServiceImpl(productRepository, productOutbox, orderClient, productOrdersExecutor,
+                new ProductOrdersProperties(productTimeout, ordersTimeout));
+    }
+
     @Nested
     @DisplayName("createProduct tests")
     class CreateProductTests {
@@ -73,6 +103,27 @@ class ProductServiceImplTest {
             assertThat(savedProduct.getProductName()).isEqualTo("New Product");
             assertThat(savedProduct.getPrice()).isEqualByComparingTo(new BigDecimal("49.99"));
             assertThat(savedProduct.getUuid()).isNotNull();
+            verify(productOutbox).record(ProductEventType.CREATED, savedProduct);
+        }
+
+        @Test
+        @DisplayName("Should create products in bulk with a single saveAll")
+        @SuppressWarnings("unchecked")
+        void shouldCreateProductsInBulk() {
+            List<CreateProduct> createProducts = List.of(
+                    new CreateProduct("First", new BigDecimal("1.00")),
+                    new CreateProduct("Second", new BigDecimal("2.00")));
+
+            List<BatchItemResult> results = productService.createProducts(createProducts);
+
+            assertThat(results).extracting(BatchItemResult::index).containsExactly(0, 1);
+            assertThat(results).allSatisfy(result -> assertThat(result.uuid()).isNotNull());
+
+            ArgumentCaptor<List<Product>> productsCaptor = ArgumentCaptor.forClass(List.class);
+            verify(productRepository).saveAll(productsCaptor.capture());
+            assertThat(productsCaptor.getValue()).extracting(Product::getProductName).containsExactly("First", "Second");
+            verify(productRepository, never()).save(any());
+            verify(productOutbox).recordAll(ProductEventType.CREATED, productsCaptor.getValue());
         }
     }
 
@@ -103,6 +154,53 @@ class ProductServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("findVersion tests")
+    class FindVersionTests {
+
+        @Test
+        @DisplayName("Should return validators without loading the product")
+        void shouldReturnVersionWhenFound() {
+            ProductVersion version = new ProductVersion(3L, LocalDateTime.of(2024, 1, 1, 10, 0));
+            when(productRepository.findVersionByUuid(TEST_UUID)).thenReturn(Optional.of(version));
+
+            ProductVersion result = productService.findVersion(TEST_UUID);
+
+            assertThat(result.etag()).isEqualTo("\"3\"");
+            verify(productRepository, never()).findByUuid(any());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when product not found")
+        void shouldThrowExceptionWhenVersionNotFound() {
+            when(productRepository.findVersionByUuid(TEST_UUID)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> productService.findVersion(TEST_UUID))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .hasMessageContaining("Product not found");
+        }
+    }
+
+    @Nested
+    @DisplayName("findVersionedById tests")
+    class FindVersionedByIdTests {
+
+        @Test
+        @DisplayName("Should take the validators from the loaded product")
+        void shouldReturnProductWithItsVersion() {
+            testProduct.setVersion(3L);
+            testProduct.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+            when(productRepository.findByUuid(TEST_UUID)).thenReturn(Optional.of(testProduct));
+
+            VersionedProduct result = productService.findVersionedById(TEST_UUID);
+
+            assertThat(result.product().uuid()).isEqualTo(TEST_UUID);
+            assertThat(result.version().etag()).isEqualTo("\"3\"");
+            assertThat(result.version().updatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 1, 10, 0));
+            verify(productRepository, never()).findVersionByUuid(any());
+        }
+    }
+
     @Nested
     @DisplayName("findAll tests")
     class FindAllTests {
@@ -116,9 +214,9 @@ class ProductServiceImplTest {
             product2.setProductName("Product 2");
             product2.setPrice(new BigDecimal("29.99"));
 
-            when(productRepository.findAll()).thenReturn(List.of(testProduct, product2));
+            when(productRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.of(51))).thenReturn(List.of(testProduct, product2));
 
-            List<ResponseProduct> result = productService.findAll();
+            List<ResponseProduct> result = productService.findAll(null, 50).items();
 
             assertThat(result).hasSize(2);
             assertThat(result.get(0).productName()).isEqualTo("Test Product");
@@ -128,12 +226,53 @@ class ProductServiceImplTest {
         @Test
         @DisplayName("Should return empty list when no products")
         void shouldReturnEmptyListWhenNoProducts() {
-            when(productRepository.findAll()).thenReturn(Collections.emptyList());
+            when(productRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.of(51))).thenReturn(Collections.emptyList());
 
-            List<ResponseProduct> result = productService.findAll();
+            List<ResponseProduct> result = productService.findAll(null, 50).items();
 
             assertThat(result).isEmpty();
         }
+
+        @Test
+        @DisplayName("Should page through products by id")
+        void shouldPageThroughProductsById() {
+            Product product2 = new Product();
+            product2.setId(2);
+            product2.setUuid("uuid-2");
+            product2.setProductName("Product 2");
+            product2.setPrice(new BigDecimal("29.99"));
+
+            when(productRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.of(2))).thenReturn(List.of(testProduct, product2));
+
+            CursorPage<ResponseProduct> firstPage = productService.findAll(null, 1);
+
+            assertThat(firstPage.items()).extracting(ResponseProduct::uuid).containsExactly(TEST_UUID);
+            assertThat(firstPage.nextCursor()).isNotNull();
+
+            when(productRepository.findByIdGreaterThanOrderByIdAsc(1, Limit.of(2))).thenReturn(List.of(product2));
+
+            CursorPage<ResponseProduct> secondPage = productService.findAll(firstPage.nextCursor(), 1);
+
+            assertThat(secondPage.items()).extracting(ResponseProduct::uuid).containsExactly("uuid-2");
+            assertThat(secondPage.nextCursor()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("findByUuids tests")
+    class FindByUuidsTests {
+
+        @Test
+        @DisplayName("Should return products found in a single query")
+        void shouldReturnProductsInSingleQuery() {
+            when(productRepository.findByUuidIn(List.of(TEST_UUID, "missing-uuid"))).thenReturn(List.of(testProduct));
+
+            List<ResponseProduct> result = productService.findByUuids(List.of(TEST_UUID, "missing-uuid", TEST_UUID));
+
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).uuid()).isEqualTo(TEST_UUID);
+            verify(productRepository).findByUuidIn(List.of(TEST_UUID, "missing-uuid"));
+        }
     }
 
     @Nested
@@ -141,65 +280,65 @@ class ProductServiceImplTest {
     class UpdateProductTests {
 
         @Test
-        @DisplayName("Should update product name and price")
+        @DisplayName("Should update name and price in one statement and record the change")
         void shouldUpdateProductNameAndPrice() {
-            UpdateProduct updateProduct = new UpdateProduct("Updated Name", new BigDecimal("149.99"));
-            when(productRepository.findByUuid(TEST_UUID)).thenReturn(Optional.of(testProduct));
-            when(productRepository.save(any(Product.class))).thenReturn(testProduct);
+            BigDecimal price = new BigDecimal("149.99");
+            when(productRepository.updateByUuid(eq(TEST_UUID), eq("Updated Name"), eq(price), any(LocalDateTime.class), isNull()))
+                    .thenReturn(1);
 
-            productService.updateProduct(TEST_UUID, updateProduct);
+            productService.updateProduct(TEST_UUID, new UpdateProduct("Updated Name", price), null);
 
-            ArgumentCaptor<Product> productCaptor = ArgumentCaptor.forClass(Product.class);
-            verify(productRepository).save(productCaptor.capture());
-
-            Product savedProduct = productCaptor.getValue();
-            assertThat(savedProduct.getProductName()).isEqualTo("Updated Name");
-            assertThat(savedProduct.getPrice()).isEqualByComparingTo(new BigDecimal("149.99"));
+            verify(productRepository, never()).findByUuid(any());
+            verify(productRepository, never()).save(any());
+            verify(productOutbox).recordUpdated(TEST_UUID, "Updated Name", price);
         }
 
         @Test
-        @DisplayName("Should update only product name when price is null")
+        @DisplayName("Should pass null for fields left unchanged")
         void shouldUpdateOnlyProductName() {
-            UpdateProduct updateProduct = new UpdateProduct("Updated Name", null);
-            when(productRepository.findByUuid(TEST_UUID)).thenReturn(Optional.of(testProduct));
-            when(productRepository.save(any(Product.class))).thenReturn(testProduct);
+            when(productRepository.updateByUuid(eq(TEST_UUID), eq("Updated Name"), isNull(), any(LocalDateTime.class), isNull()))
+                    .thenReturn(1);
 
-            productService.updateProduct(TEST_UUID, updateProduct);
+            productService.updateProduct(TEST_UUID, new UpdateProduct("Updated Name", null), null);
 
-            ArgumentCaptor<Product> productCaptor = ArgumentCaptor.forClass(Product.class);
-            verify(productRepository).save(productCaptor.capture());
-
-            Product savedProduct = productCaptor.getValue();
-            assertThat(savedProduct.getProductName()).isEqualTo("Updated Name");
-            assertThat(savedProduct.getPrice()).isEqualByComparingTo(new BigDecimal("99.99"));
+            verify(productOutbox).recordUpdated(TEST_UUID, "Updated Name", null);
         }
 
         @Test
-        @DisplayName("Should update only price when name is null")
-        void shouldUpdateOnlyPrice() {
-            UpdateProduct updateProduct = new UpdateProduct(null, new BigDecimal("199.99"));
-            when(productRepository.findByUuid(TEST_UUID)).thenReturn(Optional.of(testProduct));
-            when(productRepository.save(any(Product.class))).thenReturn(testProduct);
-
-            productService.updateProduct(TEST_UUID, updateProduct);
+        @DisplayName("Should update only when the expected version is current")
+        void shouldUpdateWithExpectedVersion() {
+            BigDecimal price = new BigDecimal("199.99");
+            when(productRepository.updateByUuid(eq(TEST_UUID), isNull(), eq(price), any(LocalDateTime.class), eq(3L)))
+                    .thenReturn(1);
 
-            ArgumentCaptor<Product> productCaptor = ArgumentCaptor.forClass(Product.class);
-            verify(productRepository).save(productCaptor.capture());
+            productService.updateProduct(TEST_UUID, new UpdateProduct(null, price), 3L);
 
-            Product savedProduct = productCaptor.getValue();
-            assertThat(savedProduct.getProductName()).isEqualTo("Test Product");
-            assertThat(savedProduct.getPrice()).isEqualByComparingTo(new BigDecimal("199.99"));
+            verify(productRepository, never()).existsByUuid(any());
+            verify(productOutbox).recordUpdated(TEST_UUID, null, price);
         }
 
         @Test
-        @DisplayName("Should throw exception when product not found for update")
+        @DisplayName("Should throw not found when no row was updated")
         void shouldThrowExceptionWhenProductNotFoundForUpdate() {
-            UpdateProduct updateProduct = new UpdateProduct("Updated Name", new BigDecimal("149.99"));
-            when(productRepository.findByUuid(TEST_UUID)).thenReturn(Optional.empty());
+            when(productRepository.updateByUuid(eq(TEST_UUID), any(), any(), any(), isNull())).thenReturn(0);
 
-            assertThatThrownBy(() -> productService.updateProduct(TEST_UUID, updateProduct))
+            assertThatThrownBy(() -> productService.updateProduct(TEST_UUID, new UpdateProduct("Updated Name", null), null))
                     .isInstanceOf(ResponseStatusException.class)
                     .hasMessageContaining("Product not found");
+            verify(productRepository, never()).existsByUuid(any());
+            verifyNoInteractions(productOutbox);
+        }
+
+        @Test
+        @DisplayName("Should throw precondition failed when the product changed since the expected version")
+        void shouldThrowPreconditionFailedForStaleVersion() {
+            when(productRepository.updateByUuid(eq(TEST_UUID), any(), any(), any(), eq(3L))).thenReturn(0);
+            when(productRepository.existsByUuid(TEST_UUID)).thenReturn(true);
+
+            assertThatThrownBy(() -> productService.updateProduct(TEST_UUID, new UpdateProduct("Updated Name", null), 3L))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED));
+            verifyNoInteractions(productOutbox);
         }
     }
 
@@ -208,27 +347,40 @@ class ProductServiceImplTest {
     class DeleteProductTests {
 
         @Test
-        @DisplayName("Should delete product successfully")
+        @DisplayName("Should delete product in one statement")
         void shouldDeleteProductSuccessfully() {
-            when(productRepository.existsByUuid(TEST_UUID)).thenReturn(true);
-            doNothing().when(productRepository).deleteByUuid(TEST_UUID);
+            when(productRepository.deleteByUuid(TEST_UUID, null)).thenReturn(1);
 
-            productService.deleteProduct(TEST_UUID);
+            productService.deleteProduct(TEST_UUID, null);
 
-            verify(productRepository).existsByUuid(TEST_UUID);
-            verify(productRepository).deleteByUuid(TEST_UUID);
+            verify(productRepository, never()).existsByUuid(any());
+            verify(productOutbox).recordDeleted(TEST_UUID);
         }
 
         @Test
         @DisplayName("Should throw exception when product not found for delete")
         void shouldThrowExceptionWhenProductNotFoundForDelete() {
+            when(productRepository.deleteByUuid(TEST_UUID, 3L)).thenReturn(0);
             when(productRepository.existsByUuid(TEST_UUID)).thenReturn(false);
 
-            assertThatThrownBy(() -> productService.deleteProduct(TEST_UUID))
+            assertThatThrownBy(() -> productService.deleteProduct(TEST_UUID, 3L))
                     .isInstanceOf(ResponseStatusException.class)
                     .hasMessageContaining("Product not found");
 
-            verify(productRepository, never()).deleteByUuid(any());
+            verifyNoInteractions(productOutbox);
+        }
+
+        @Test
+        @DisplayName("Should throw precondition failed when the product changed since the expected version")
+        void shouldThrowPreconditionFailedForStaleVersion() {
+            when(productRepository.deleteByUuid(TEST_UUID, 3L)).thenReturn(0);
+            when(productRepository.existsByUuid(TEST_UUID)).thenReturn(true);
+
+            assertThatThrownBy(() -> productService.deleteProduct(TEST_UUID, 3L))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED));
+
+            verifyNoInteractions(productOutbox);
         }
     }
 
@@ -259,7 +411,7 @@ class ProductServiceImplTest {
             );
             when(orderClient.findOrdersByProductUuid(TEST_UUID)).thenReturn(List.of(order1, order2));
 
-            ProductOrdersResponse result = productService.findProductWithOrders(TEST_UUID);
+            ProductOrdersResponse result = productService.findProductWithOrders(TEST_UUID, false);
 
             assertThat(result.product().uuid()).isEqualTo(TEST_UUID);
             assertThat(result.orders()).hasSize(2);
@@ -273,10 +425,74 @@ class ProductServiceImplTest {
             when(productRepository.findByUuid(TEST_UUID)).thenReturn(Optional.of(testProduct));
             when(orderClient.findOrdersByProductUuid(TEST_UUID)).thenReturn(Collections.emptyList());
 
-            ProductOrdersResponse result = productService.findProductWithOrders(TEST_UUID);
+            ProductOrdersResponse result = productService.findProductWithOrders(TEST_UUID, false);
 
             assertThat(result.product().uuid()).isEqualTo(TEST_UUID);
             assertThat(result.orders()).isEmpty();
         }
+
+        @Test
+        @DisplayName("Should return only order stats in summary mode")
+        void shouldReturnStatsInSummaryMode() {
+            when(productRepository.findByUuid(TEST_UUID)).thenReturn(Optional.of(testProduct));
+            when(orderClient.findOrderStatsByProductUuid(TEST_UUID)).thenReturn(
+                    new OrderStatsResponse(TEST_UUID, 2, 3, new BigDecimal("299.97"), LocalDateTime.of(2024, 1, 20, 8, 0)));
+
+            ProductOrdersResponse result = productService.findProductWithOrders(TEST_UUID, true);
+
+            assertThat(result.product().uuid()).isEqualTo(TEST_UUID);
+            assertThat(result.orders()).isNull();
+            assertThat(result.stats().orderCount()).isEqualTo(2);
+            assertThat(result.stats().totalRevenue()).isEqualByComparingTo(new BigDecimal("299.97"));
+            verify(orderClient, never()).findOrdersByProductUuid(any());
+        }
+
+        @Test
+        @DisplayName("Should time out when the product lookup is slower than its deadline")
+        void shouldTimeOutWhenProductLookupIsSlow() {
+            productService = newProductService(Duration.ofMillis(100), Duration.ofSeconds(2));
+            when(productRepository.findByUuid(TEST_UUID)).thenAnswer(invocation -> {
+                Thread.sleep(5_000);
+                return Optional.of(testProduct);
+            });
+            lenient().when(orderClient.findOrdersByProductUuid(TEST_UUID)).thenReturn(Collections.emptyList());
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> productService.findProductWithOrders(TEST_UUID, false))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT));
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        }
+
+        @Test
+        @DisplayName("Should fail fast with not found without waiting for order service")
+        void shouldFailFastWhenProductNotFound() {
+            when(productRepository.findByUuid(TEST_UUID)).thenReturn(Optional.empty());
+            lenient().when(orderClient.findOrdersByProductUuid(TEST_UUID)).thenAnswer(invocation -> {
+                Thread.sleep(5_000);
+                return Collections.emptyList();
+            });
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> productService.findProductWithOrders(TEST_UUID, false))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .hasMessageContaining("Product not found");
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        }
+
+        @Test
+        @DisplayName("Should time out when order service is slower than its deadline")
+        void shouldTimeOutWhenOrderServiceIsSlow() {
+            productService = newProductService(Duration.ofSeconds(1), Duration.ofMillis(100));
+            when(productRepository.findByUuid(TEST_UUID)).thenReturn(Optional.of(testProduct));
+            when(orderClient.findOrdersByProductUuid(TEST_UUID)).thenAnswer(invocation -> {
+                Thread.sleep(5_000);
+                return Collections.emptyList();
+            });
+
+            assertThatThrownBy(() -> productService.findProductWithOrders(TEST_UUID, false))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT));
+        }
     }
 }